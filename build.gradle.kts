@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.4"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "uz.consortgroup"
@@ -46,11 +47,27 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-jdbc")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
 
     // Feign (REST Clients)
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
     implementation("io.github.openfeign.form:feign-form-spring:3.8.0")
+    implementation("io.github.openfeign:feign-micrometer")
+
+    // Resilience4j (bulkheads, circuit breakers and retries around Feign clients)
+    implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
+
+    // Caffeine (in-process caches)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Hibernate second-level cache (Caffeine JCache) and its statistics as Micrometer meters
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+
+    // Streaming XLSX reader (participant imports)
+    implementation("com.github.pjfanning:excel-streaming-reader:5.0.2")
 
     // MapStruct
     implementation("org.mapstruct:mapstruct:1.5.3.Final")
@@ -73,6 +90,7 @@ dependencies {
 
     //Actuator
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     //Jakarta
     implementation("jakarta.validation:jakarta.validation-api:3.0.2")
@@ -81,10 +99,50 @@ dependencies {
     // Testing
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // JMH benchmarks (src/jmh)
+    jmh("org.springframework:spring-test")
 }
 
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs database benchmarks (requires Docker)."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// ./gradlew jmh [-PjmhIncludes=<regex>]; results are written to build/reports/jmh/results.json
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(2)
+    warmupIterations.set(3)
+    warmup.set("2s")
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("us")
+    failOnError.set(true)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,65 @@
+package uz.consortgroup.webinar_service.mapper;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uz.consortgroup.core.api.v1.dto.webinar.enumeration.LanguageCode;
+import uz.consortgroup.core.api.v1.dto.webinar.enumeration.WebinarCategory;
+import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarResponseDto;
+import uz.consortgroup.webinar_service.entity.Webinar;
+import uz.consortgroup.webinar_service.entity.WebinarParticipant;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class WebinarMapperBenchmark {
+
+    @Param({"100", "10000"})
+    int participants;
+
+    private WebinarMapper mapper;
+    private Webinar webinar;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(WebinarMapper.class);
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+        webinar = Webinar.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .title("Benchmark webinar")
+                .category(WebinarCategory.PLANNED)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .platformUrl("https://meet.example.com/room")
+                .courseId(new UUID(random.nextLong(), random.nextLong()))
+                .languageCode(LanguageCode.RU)
+                .onlyCourseParticipants(false)
+                .createdBy(new UUID(random.nextLong(), random.nextLong()))
+                .createdAt(start.minusDays(1))
+                .build();
+
+        List<WebinarParticipant> list = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            list.add(WebinarParticipant.builder()
+                    .webinar(webinar)
+                    .userId(new UUID(random.nextLong(), random.nextLong()))
+                    .createdAt(start.minusDays(1))
+                    .build());
+        }
+        webinar.setParticipants(list);
+    }
+
+    @Benchmark
+    public WebinarResponseDto toDto() {
+        return mapper.toDto(webinar);
+    }
+}
@@ -0,0 +1,46 @@
+package uz.consortgroup.webinar_service.security;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Per-request auth header parsing: {@link AuthHeaderFilter} populating request attributes and
+ * {@link AuthContextImpl} reading the current user and role back.
+ */
+@State(Scope.Benchmark)
+public class AuthHeaderBenchmark {
+
+    private final AuthHeaderFilter filter = new AuthHeaderFilter();
+    private final FilterChain chain = (request, response) -> { };
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private AuthContextImpl authContext;
+
+    @Setup
+    public void setUp() throws Exception {
+        request = new MockHttpServletRequest("GET", "/api/v1/webinars/list");
+        request.addHeader(AuthHeaders.AUTH_VALIDATED, "true");
+        request.addHeader(AuthHeaders.USER_ID, "9c7bfe69-920f-43e2-af84-f6bfc4b8cd83");
+        request.addHeader(AuthHeaders.ROLES, "MENTOR, ADMIN");
+        response = new MockHttpServletResponse();
+        authContext = new AuthContextImpl(request);
+        filter.doFilterInternal(request, response, chain);
+    }
+
+    @Benchmark
+    public void filterHeaders() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+    }
+
+    @Benchmark
+    public void readAuthContext(Blackhole blackhole) {
+        blackhole.consume(authContext.getCurrentUserId());
+        blackhole.consume(authContext.getCurrentUserRole());
+    }
+}
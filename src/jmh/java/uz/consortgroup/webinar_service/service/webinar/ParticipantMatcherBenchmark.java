@@ -0,0 +1,84 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Identifier matching of {@code ParticipantResolver} and {@code addParticipants}: a roster with duplicates
+ * and padding, 90% of it resolved, 5% guests and half of the users already participating.
+ */
+@State(Scope.Benchmark)
+public class ParticipantMatcherBenchmark {
+
+    @Param({"1000", "10000"})
+    int rosterSize;
+
+    private List<String> identifiers;
+    private Map<String, String> identifiersByKey;
+    private Map<String, UserSearchResponse> usersByKey;
+    private Map<UUID, String> resolved;
+    private Set<UUID> existing;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Random random = new Random(42);
+
+        identifiers = new ArrayList<>(rosterSize + rosterSize / 10);
+        usersByKey = new LinkedHashMap<>();
+        existing = new HashSet<>();
+        for (int i = 0; i < rosterSize; i++) {
+            String identifier = i % 2 == 0
+                    ? "user" + i + "@example.com"
+                    : String.format("%014d", Math.abs(random.nextLong()) % 100_000_000_000_000L);
+            identifiers.add(i % 7 == 0 ? "  " + identifier + " " : identifier);
+            if (i % 10 == 0) {
+                identifiers.add(identifier);
+            }
+            if (i % 10 == 9) {
+                continue;
+            }
+
+            UUID userId = new UUID(random.nextLong(), random.nextLong());
+            usersByKey.put(IdentifierNormalizer.normalize(identifier), objectMapper.convertValue(Map.of(
+                    "userId", userId.toString(),
+                    "email", identifier,
+                    "role", i % 20 == 0 ? "GUEST_USER" : "MENTOR"
+            ), UserSearchResponse.class));
+            if (i % 2 == 0) {
+                existing.add(userId);
+            }
+        }
+        identifiersByKey = ParticipantMatcher.indexByKey(identifiers);
+        resolved = ParticipantMatcher.classify(identifiersByKey, usersByKey, Set.of()).resolved();
+    }
+
+    @Benchmark
+    public Map<String, String> indexByKey() {
+        return ParticipantMatcher.indexByKey(identifiers);
+    }
+
+    @Benchmark
+    public ParticipantResolution classify() {
+        return ParticipantMatcher.classify(identifiersByKey, usersByKey, Set.of());
+    }
+
+    @Benchmark
+    public Map<UUID, String> newParticipants() {
+        return ParticipantMatcher.newParticipants(resolved, existing);
+    }
+}
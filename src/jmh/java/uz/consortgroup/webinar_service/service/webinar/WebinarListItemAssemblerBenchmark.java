@@ -0,0 +1,107 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uz.consortgroup.core.api.v1.dto.user.response.UserShortInfoResponseDto;
+import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListItemResponseDto;
+import uz.consortgroup.webinar_service.cache.TutorInfoCache;
+import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+import uz.consortgroup.webinar_service.repository.WebinarListRow;
+import uz.consortgroup.webinar_service.service.storage.PreviewDerivativeService;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * List-card assembly of {@code getWebinars} for one page, with the tutor cache warm (the steady state)
+ * and Redis disabled, so only in-process work is measured.
+ */
+@State(Scope.Benchmark)
+public class WebinarListItemAssemblerBenchmark {
+
+    private static final int TUTORS = 20;
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    private WebinarListItemAssembler assembler;
+    private List<WebinarListRow> page;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<UUID> tutorIds = new ArrayList<>();
+        for (int i = 0; i < TUTORS; i++) {
+            tutorIds.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getTutorInfo().setRemoteTtl(null);
+        WebinarMetrics metrics = new WebinarMetrics(new SimpleMeterRegistry());
+        TutorInfoCache tutorInfoCache = new TutorInfoCache(stubUserClient(), null, new ObjectMapper(), cacheProperties, metrics);
+        tutorInfoCache.getShortInfo(tutorIds);
+
+        assembler = new WebinarListItemAssembler(tutorInfoCache, new PreviewDerivativeService() {
+            @Override
+            public CompletableFuture<String> generateAsync(String filename) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public String cardPreviewUrl(String cardPreviewFilename, String fallbackUrl) {
+                return fallbackUrl;
+            }
+        }, metrics);
+
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            String preview = new UUID(random.nextLong(), random.nextLong()) + ".png";
+            page.add(new WebinarListRow(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    "Webinar " + i,
+                    start.plusHours(i),
+                    start.plusHours(i + 1),
+                    "https://meet.example.com/room-" + i,
+                    preview,
+                    "https://cdn.example.com/webinars/" + preview,
+                    null,
+                    tutorIds.get(i % TUTORS)));
+        }
+    }
+
+    @Benchmark
+    public List<WebinarListItemResponseDto> toListItems() {
+        return assembler.toListItems(page);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UserClient stubUserClient() {
+        return (UserClient) Proxy.newProxyInstance(UserClient.class.getClassLoader(), new Class<?>[]{UserClient.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getShortInfoBulk")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Map<UUID, UserShortInfoResponseDto> result = new HashMap<>();
+                    for (UUID id : (Collection<UUID>) args[0]) {
+                        result.put(id, new UserShortInfoResponseDto());
+                    }
+                    return result;
+                });
+    }
+}
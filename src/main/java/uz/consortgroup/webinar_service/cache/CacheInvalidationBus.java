@@ -0,0 +1,116 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-node eviction of in-process caches over Redis pub/sub. Writers publish the ids they changed once
+ * their transaction commits; every other node evicts them from its {@link LocalCacheInvalidator}s.
+ * Delivery is best-effort: a node that is disconnected while a message is sent misses it and relies on
+ * the local TTL. Publishing is a no-op unless {@code cache.invalidation.enabled} is set.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String WEBINAR = "webinar";
+    public static final String TUTOR = "tutor";
+    public static final String COURSE = "course";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebinarMetrics metrics;
+    private final Map<String, List<LocalCacheInvalidator>> invalidators;
+    private final boolean enabled;
+    private final String channel;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                WebinarMetrics metrics,
+                                List<LocalCacheInvalidator> invalidators,
+                                CacheProperties cacheProperties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.invalidators = invalidators.stream().collect(Collectors.groupingBy(LocalCacheInvalidator::region));
+        this.enabled = cacheProperties.getInvalidation().isEnabled();
+        this.channel = cacheProperties.getInvalidation().getChannel();
+    }
+
+    /**
+     * Publishes after the current transaction commits, or right away when none is active.
+     * Rolled-back transactions publish nothing.
+     */
+    public void publishAfterCommit(String region, Collection<UUID> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        List<UUID> snapshot = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(region, snapshot);
+                }
+            });
+        } else {
+            publish(region, snapshot);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            metrics.cacheInvalidationDropped("malformed");
+            log.warn("Dropping malformed cache invalidation message: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        try {
+            for (LocalCacheInvalidator invalidator : invalidators.getOrDefault(invalidation.region(), List.of())) {
+                invalidator.invalidateLocal(invalidation.ids());
+            }
+        } catch (RuntimeException e) {
+            metrics.cacheInvalidationDropped("handler");
+            log.warn("Failed to apply cache invalidation for region {}", invalidation.region(), e);
+            return;
+        }
+        long lagMillis = Math.max(0, System.currentTimeMillis() - invalidation.publishedAt());
+        metrics.cacheInvalidationApplied(invalidation.region(), Duration.ofMillis(lagMillis));
+        log.debug("Applied invalidation of {} {} entries from node {}", invalidation.ids().size(), invalidation.region(), invalidation.origin());
+    }
+
+    private void publish(String region, List<UUID> ids) {
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(nodeId, region, ids, System.currentTimeMillis()));
+            redisTemplate.convertAndSend(channel, payload);
+            metrics.cacheInvalidationPublished(region);
+        } catch (Exception e) {
+            metrics.cacheInvalidationDropped("publish");
+            log.warn("Failed to publish invalidation of {} {} entries: {}", ids.size(), region, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package uz.consortgroup.webinar_service.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @param origin      node id of the publisher, so it can skip its own messages
+ * @param publishedAt publisher wall clock in epoch millis, used for the lag metric
+ */
+public record CacheInvalidationMessage(String origin, String region, List<UUID> ids, long publishedAt) {
+}
@@ -0,0 +1,143 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.webinar_service.client.CourseClient;
+import uz.consortgroup.webinar_service.concurrent.FailFastScope;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Per-course enrollment answers. For every course it keeps which users were already checked and which
+ * of them are enrolled, as compact sorted sets; only unchecked users are sent to the course service, in
+ * chunks of {@code course.enrollment.chunk-size} with at most {@code course.enrollment.max-concurrency}
+ * requests in flight. Newly checked users are merged into the course entry without extending its TTL,
+ * so an entry never answers for longer than {@code cache.course-enrollment.local-ttl}.
+ */
+@Slf4j
+@Component
+public class CourseEnrollmentCache implements LocalCacheInvalidator {
+
+    private final CourseClient courseClient;
+    private final int chunkSize;
+    private final int maxConcurrency;
+    private final Cache<UUID, Snapshot> snapshots;
+
+    public CourseEnrollmentCache(CourseClient courseClient,
+                                 CacheProperties cacheProperties,
+                                 @Value("${course.enrollment.chunk-size:500}") int chunkSize,
+                                 @Value("${course.enrollment.max-concurrency:4}") int maxConcurrency) {
+        CacheProperties.CacheSpec spec = cacheProperties.getCourseEnrollment();
+        long ttlNanos = spec.getLocalTtl().toNanos();
+        this.courseClient = courseClient;
+        this.chunkSize = chunkSize;
+        this.maxConcurrency = maxConcurrency;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfter(new Expiry<UUID, Snapshot>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Snapshot value, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Snapshot value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Snapshot value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Set<UUID> filterEnrolled(UUID courseId, Collection<UUID> userIds) {
+        Snapshot snapshot = snapshots.getIfPresent(courseId);
+        if (snapshot == null) {
+            snapshot = Snapshot.EMPTY;
+        }
+
+        Set<UUID> enrolled = new HashSet<>();
+        List<UUID> unchecked = new ArrayList<>();
+        for (UUID userId : new HashSet<>(userIds)) {
+            if (!snapshot.checked().contains(userId)) {
+                unchecked.add(userId);
+            } else if (snapshot.enrolled().contains(userId)) {
+                enrolled.add(userId);
+            }
+        }
+        if (unchecked.isEmpty()) {
+            return enrolled;
+        }
+
+        List<UUID> fetched = fetchEnrolled(courseId, unchecked);
+        Set<UUID> uncheckedSet = new HashSet<>(unchecked);
+        fetched.stream().filter(uncheckedSet::contains).forEach(enrolled::add);
+
+        Snapshot delta = new Snapshot(SortedUuidSet.of(unchecked), SortedUuidSet.of(fetched));
+        snapshots.asMap().merge(courseId, delta, Snapshot::merge);
+        log.debug("Checked enrollment of {} users in course {}, {} served from cache",
+                unchecked.size(), courseId, userIds.size() - unchecked.size());
+        return enrolled;
+    }
+
+    public void evict(Collection<UUID> courseIds) {
+        snapshots.invalidateAll(courseIds);
+    }
+
+    @Override
+    public String region() {
+        return CacheInvalidationBus.COURSE;
+    }
+
+    @Override
+    public void invalidateLocal(Collection<UUID> courseIds) {
+        evict(courseIds);
+    }
+
+    private List<UUID> fetchEnrolled(UUID courseId, List<UUID> userIds) {
+        List<Future<List<UUID>>> chunks = new ArrayList<>();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        try (FailFastScope scope = new FailFastScope()) {
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                List<UUID> chunk = List.copyOf(userIds.subList(from, Math.min(from + chunkSize, userIds.size())));
+                chunks.add(scope.fork(() -> {
+                    permits.acquire();
+                    try {
+                        List<UUID> enrolled = courseClient.checkEnrolled(courseId, chunk);
+                        return enrolled == null ? List.<UUID>of() : enrolled;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            scope.join();
+        }
+
+        List<UUID> enrolled = new ArrayList<>();
+        chunks.forEach(chunk -> enrolled.addAll(chunk.resultNow()));
+        return enrolled;
+    }
+
+    record Snapshot(SortedUuidSet checked, SortedUuidSet enrolled) {
+        static final Snapshot EMPTY = new Snapshot(SortedUuidSet.EMPTY, SortedUuidSet.EMPTY);
+
+        Snapshot merge(Snapshot other) {
+            return new Snapshot(checked.union(other.checked), enrolled.union(other.enrolled));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.webinar_service.client.CourseClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Course existence and mentor id lookups, cached in-process (L1) and in Redis (L2).
+ * Concurrent misses for the same course are coalesced into a single course-service call (counted as
+ * single-flight lookups); the load runs on the first caller's thread, outside any cache lock. Only
+ * existing courses are cached, so a course created after a failed check is seen immediately.
+ */
+@Slf4j
+@Component
+public class CourseMetadataCache implements LocalCacheInvalidator {
+
+    static final String EXISTS_PREFIX = "webinar:course-exists:";
+    static final String MENTOR_PREFIX = "webinar:course-mentor:";
+
+    private final CourseClient courseClient;
+    private final RemoteCache<Boolean> remoteExists;
+    private final RemoteCache<UUID> remoteMentors;
+    private final AsyncCache<UUID, Boolean> exists;
+    private final AsyncCache<UUID, Optional<UUID>> mentors;
+    private final WebinarMetrics metrics;
+
+    public CourseMetadataCache(CourseClient courseClient,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               CacheProperties cacheProperties,
+                               WebinarMetrics metrics) {
+        CacheProperties.CacheSpec spec = cacheProperties.getCourseMetadata();
+        this.courseClient = courseClient;
+        this.metrics = metrics;
+        this.remoteExists = new RemoteCache<>(redisTemplate, objectMapper, EXISTS_PREFIX, Boolean.class, spec.getRemoteTtl());
+        this.remoteMentors = new RemoteCache<>(redisTemplate, objectMapper, MENTOR_PREFIX, UUID.class, spec.getRemoteTtl());
+        this.exists = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .buildAsync();
+        this.mentors = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .buildAsync();
+    }
+
+    public boolean courseExists(UUID courseId) {
+        Boolean found = load(exists, "course-exists", courseId, () -> {
+            String key = courseId.toString();
+            Optional<Boolean> cached = remoteExists.getAll(List.of(key)).get(key);
+            if (cached != null && cached.isPresent()) {
+                return cached.get();
+            }
+            if (!courseClient.courseExists(courseId)) {
+                return null;
+            }
+            remoteExists.putAll(Map.of(key, Boolean.TRUE));
+            return Boolean.TRUE;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    public UUID getMentorId(UUID courseId) {
+        Optional<UUID> mentorId = load(mentors, "course-mentor", courseId, () -> {
+            String key = courseId.toString();
+            Optional<UUID> cached = remoteMentors.getAll(List.of(key)).get(key);
+            if (cached != null) {
+                return cached;
+            }
+            UUID fetched = courseClient.getMentorId(courseId);
+            if (fetched != null) {
+                remoteMentors.putAll(Map.of(key, fetched));
+            }
+            return Optional.ofNullable(fetched);
+        });
+        return mentorId == null ? null : mentorId.orElse(null);
+    }
+
+    public void evict(Collection<UUID> courseIds) {
+        exists.synchronous().invalidateAll(courseIds);
+        mentors.synchronous().invalidateAll(courseIds);
+        List<String> keys = courseIds.stream().map(UUID::toString).toList();
+        remoteExists.evict(keys);
+        remoteMentors.evict(keys);
+        log.info("Evicted course metadata for {} courses", courseIds.size());
+    }
+
+    public void evictAllLocal() {
+        exists.synchronous().invalidateAll();
+        mentors.synchronous().invalidateAll();
+    }
+
+    @Override
+    public String region() {
+        return CacheInvalidationBus.COURSE;
+    }
+
+    @Override
+    public void invalidateLocal(Collection<UUID> courseIds) {
+        exists.synchronous().invalidateAll(courseIds);
+        mentors.synchronous().invalidateAll(courseIds);
+    }
+
+    /**
+     * Returns the cached value or loads it on the calling thread; callers arriving while a load is in
+     * flight wait for that load instead of starting their own. Failed and {@code null} loads are not kept.
+     */
+    private <V> V load(AsyncCache<UUID, V> cache, String name, UUID key, Supplier<V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            if (!existing.isDone()) {
+                metrics.singleFlight(name, 0, 1);
+            }
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        metrics.singleFlight(name, 1, 0);
+        try {
+            V value = loader.get();
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            cache.asMap().remove(key, pending);
+            throw e;
+        }
+    }
+}
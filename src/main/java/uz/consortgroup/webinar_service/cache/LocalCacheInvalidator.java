@@ -0,0 +1,20 @@
+package uz.consortgroup.webinar_service.cache;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * An in-process cache that {@link CacheInvalidationBus} evicts when another node changes the underlying data.
+ */
+public interface LocalCacheInvalidator {
+
+    /**
+     * One of the {@code CacheInvalidationBus} region constants.
+     */
+    String region();
+
+    /**
+     * Drops the given ids from this node only; shared Redis entries are evicted by the publishing node.
+     */
+    void invalidateLocal(Collection<UUID> ids);
+}
@@ -0,0 +1,111 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Best-effort JSON view over a Redis key prefix, used as the shared second level of the in-process caches.
+ * Every Redis or (de)serialization failure is logged and reported as a miss, never thrown.
+ * An empty string is stored as the negative marker, read back as {@link Optional#empty()}.
+ */
+@Slf4j
+public class RemoteCache<V> {
+
+    private static final String NEGATIVE = "";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String prefix;
+    private final Class<V> type;
+    private final Duration ttl;
+
+    public RemoteCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                       String prefix, Class<V> type, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.prefix = prefix;
+        this.type = type;
+        this.ttl = ttl;
+    }
+
+    public boolean isEnabled() {
+        return ttl != null && !ttl.isZero() && !ttl.isNegative();
+    }
+
+    public Map<String, Optional<V>> getAll(Collection<String> keys) {
+        Map<String, Optional<V>> found = new HashMap<>();
+        if (!isEnabled() || keys.isEmpty()) {
+            return found;
+        }
+        List<String> keyList = new ArrayList<>(keys);
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keyList.stream().map(this::key).toList());
+            if (values == null) {
+                return found;
+            }
+            for (int i = 0; i < keyList.size(); i++) {
+                String json = values.get(i);
+                if (json == null) {
+                    continue;
+                }
+                found.put(keyList.get(i), NEGATIVE.equals(json)
+                        ? Optional.empty()
+                        : Optional.of(objectMapper.readValue(json, type)));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read {} entries from Redis: {}", prefix, e.getMessage());
+        }
+        return found;
+    }
+
+    public void putAll(Map<String, V> values) {
+        if (!isEnabled() || values.isEmpty()) {
+            return;
+        }
+        try {
+            for (Map.Entry<String, V> e : values.entrySet()) {
+                redisTemplate.opsForValue().set(key(e.getKey()), objectMapper.writeValueAsString(e.getValue()), ttl);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write {} entries to Redis: {}", prefix, e.getMessage());
+        }
+    }
+
+    public void putNegative(Collection<String> keys, Duration negativeTtl) {
+        if (!isEnabled() || keys.isEmpty() || negativeTtl == null || negativeTtl.isZero()) {
+            return;
+        }
+        try {
+            for (String k : keys) {
+                redisTemplate.opsForValue().set(key(k), NEGATIVE, negativeTtl);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} negative entries to Redis: {}", prefix, e.getMessage());
+        }
+    }
+
+    public void evict(Collection<String> keys) {
+        if (!isEnabled() || keys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(keys.stream().map(this::key).toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {} entries from Redis: {}", prefix, e.getMessage());
+        }
+    }
+
+    private String key(String key) {
+        return prefix + key;
+    }
+}
@@ -0,0 +1,90 @@
+package uz.consortgroup.webinar_service.cache;
+
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-key single flight for bulk lookups. A caller claims the keys nobody is loading, loads them in one batch
+ * on its own thread, and waits for the keys other callers already have in flight instead of requesting them
+ * again; its own batch is loaded before it waits, so overlapping callers cannot deadlock. Nothing is kept once
+ * a load finishes, and a failed load fails every caller waiting on its keys.
+ */
+final class SingleFlight<K, V> {
+
+    private final String name;
+    private final WebinarMetrics metrics;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    SingleFlight(String name, WebinarMetrics metrics) {
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param loader receives the claimed keys; keys missing from its result are absent from ours
+     */
+    Map<K, V> loadAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, CompletableFuture<V>> claimed = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> joined = new HashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> pending = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+            if (existing == null) {
+                claimed.put(key, pending);
+            } else {
+                joined.put(key, existing);
+            }
+        }
+        metrics.singleFlight(name, claimed.size(), joined.size());
+
+        Map<K, V> result = new HashMap<>();
+        if (!claimed.isEmpty()) {
+            try {
+                Map<K, V> loaded = loader.apply(new ArrayList<>(claimed.keySet()));
+                claimed.forEach((key, pending) -> {
+                    V value = loaded == null ? null : loaded.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                    pending.complete(value);
+                });
+            } catch (RuntimeException | Error e) {
+                claimed.values().forEach(pending -> pending.completeExceptionally(e));
+                throw e;
+            } finally {
+                claimed.forEach(inFlight::remove);
+            }
+        }
+
+        for (Map.Entry<K, CompletableFuture<V>> entry : joined.entrySet()) {
+            V value = join(entry.getValue());
+            if (value != null) {
+                result.put(entry.getKey(), value);
+            }
+        }
+        return result;
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+}
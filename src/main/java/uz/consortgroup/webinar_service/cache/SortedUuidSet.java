@@ -0,0 +1,90 @@
+package uz.consortgroup.webinar_service.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Immutable UUID set backed by one sorted {@code long[]} of (most, least) significant bit pairs:
+ * 16 bytes per element and binary-search lookups, instead of a {@code HashSet<UUID>}'s boxed entries.
+ */
+final class SortedUuidSet {
+
+    static final SortedUuidSet EMPTY = new SortedUuidSet(new long[0]);
+
+    private static final Comparator<UUID> ORDER = Comparator
+            .comparingLong(UUID::getMostSignificantBits)
+            .thenComparingLong(UUID::getLeastSignificantBits);
+
+    private final long[] bits;
+
+    private SortedUuidSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    static SortedUuidSet of(Collection<UUID> ids) {
+        UUID[] sorted = ids.stream().distinct().sorted(ORDER).toArray(UUID[]::new);
+        long[] bits = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            bits[2 * i] = sorted[i].getMostSignificantBits();
+            bits[2 * i + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return new SortedUuidSet(bits);
+    }
+
+    int size() {
+        return bits.length / 2;
+    }
+
+    boolean contains(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(bits[2 * mid], bits[2 * mid + 1], msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    SortedUuidSet union(SortedUuidSet other) {
+        if (other.size() == 0) return this;
+        if (size() == 0) return other;
+
+        long[] merged = new long[bits.length + other.bits.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < bits.length || j < other.bits.length) {
+            int cmp;
+            if (i >= bits.length) {
+                cmp = 1;
+            } else if (j >= other.bits.length) {
+                cmp = -1;
+            } else {
+                cmp = compare(bits[i], bits[i + 1], other.bits[j], other.bits[j + 1]);
+            }
+            long[] source = cmp <= 0 ? bits : other.bits;
+            int index = cmp <= 0 ? i : j;
+            merged[n++] = source[index];
+            merged[n++] = source[index + 1];
+            if (cmp <= 0) i += 2;
+            if (cmp >= 0) j += 2;
+        }
+        return new SortedUuidSet(n == merged.length ? merged : Arrays.copyOf(merged, n));
+    }
+
+    private static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+        int cmp = Long.compare(msb1, msb2);
+        return cmp != 0 ? cmp : Long.compare(lsb1, lsb2);
+    }
+}
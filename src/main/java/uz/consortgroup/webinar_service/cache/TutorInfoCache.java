@@ -0,0 +1,120 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.core.api.v1.dto.user.response.UserShortInfoResponseDto;
+import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tutor short info lookups: bounded in-process near-cache (L1) in front of a shared Redis copy (L2).
+ * Only ids missing from both levels are sent to the user service, and ids another request is already
+ * fetching are awaited rather than requested again. Redis is best-effort: any failure there degrades
+ * to a miss and never fails the caller.
+ */
+@Slf4j
+@Component
+public class TutorInfoCache implements LocalCacheInvalidator {
+
+    static final String KEY_PREFIX = "webinar:tutor-info:";
+
+    private final UserClient userClient;
+    private final RemoteCache<UserShortInfoResponseDto> remote;
+    private final Cache<UUID, UserShortInfoResponseDto> local;
+    private final SingleFlight<UUID, UserShortInfoResponseDto> inFlight;
+
+    public TutorInfoCache(UserClient userClient,
+                          StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          CacheProperties cacheProperties,
+                          WebinarMetrics metrics) {
+        CacheProperties.CacheSpec spec = cacheProperties.getTutorInfo();
+        this.userClient = userClient;
+        this.remote = new RemoteCache<>(redisTemplate, objectMapper, KEY_PREFIX, UserShortInfoResponseDto.class, spec.getRemoteTtl());
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .build();
+        this.inFlight = new SingleFlight<>("tutor-info", metrics);
+    }
+
+    public Map<UUID, UserShortInfoResponseDto> getShortInfo(Collection<UUID> userIds) {
+        Map<UUID, UserShortInfoResponseDto> result = getCachedShortInfo(userIds);
+
+        List<UUID> missing = new ArrayList<>(new LinkedHashSet<>(userIds));
+        missing.removeAll(result.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        result.putAll(inFlight.loadAll(missing, this::fetch));
+        return result;
+    }
+
+    /**
+     * Whatever both cache levels hold for {@code userIds}, without calling the user service.
+     */
+    public Map<UUID, UserShortInfoResponseDto> getCachedShortInfo(Collection<UUID> userIds) {
+        Map<UUID, UserShortInfoResponseDto> result = new HashMap<>(local.getAllPresent(userIds));
+
+        List<UUID> missing = new ArrayList<>(new LinkedHashSet<>(userIds));
+        missing.removeAll(result.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Optional<UserShortInfoResponseDto>> fromRedis = remote.getAll(missing.stream().map(UUID::toString).toList());
+        fromRedis.forEach((key, value) -> value.ifPresent(dto -> {
+            UUID userId = UUID.fromString(key);
+            local.put(userId, dto);
+            result.put(userId, dto);
+        }));
+        return result;
+    }
+
+    private Map<UUID, UserShortInfoResponseDto> fetch(List<UUID> userIds) {
+        log.debug("Fetching short info for {} tutors from user service", userIds.size());
+        Map<UUID, UserShortInfoResponseDto> fetched = userClient.getShortInfoBulk(userIds);
+        if (fetched != null && !fetched.isEmpty()) {
+            local.putAll(fetched);
+            Map<String, UserShortInfoResponseDto> toRemote = new HashMap<>();
+            fetched.forEach((userId, dto) -> toRemote.put(userId.toString(), dto));
+            remote.putAll(toRemote);
+        }
+        return fetched;
+    }
+
+    public void evict(Collection<UUID> userIds) {
+        local.invalidateAll(userIds);
+        log.info("Evicting tutor info for {} users", userIds.size());
+        remote.evict(userIds.stream().map(UUID::toString).toList());
+    }
+
+    public void evictAllLocal() {
+        local.invalidateAll();
+    }
+
+    @Override
+    public String region() {
+        return CacheInvalidationBus.TUTOR;
+    }
+
+    @Override
+    public void invalidateLocal(Collection<UUID> userIds) {
+        local.invalidateAll(userIds);
+    }
+}
@@ -0,0 +1,168 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.exception.UserSearchFailedException;
+import uz.consortgroup.webinar_service.service.user.ChunkedUserSearch;
+import uz.consortgroup.webinar_service.service.webinar.IdentifierNormalizer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Caches identifier (email / PINFL) to user resolution in front of the user service bulk search.
+ * Keys are normalized identifiers; identifiers the user service did not find are remembered
+ * for a shorter negative TTL. The Redis level is used only when {@code cache.user-resolution.remote-ttl} is set.
+ */
+@Slf4j
+@Component
+public class UserResolutionCache {
+
+    static final String KEY_PREFIX = "webinar:user-resolution:";
+
+    private final ChunkedUserSearch chunkedUserSearch;
+    private final RemoteCache<UserSearchResponse> remote;
+    private final Duration negativeTtl;
+    private final Cache<String, UserSearchResponse> resolved;
+    private final Cache<String, Boolean> unknown;
+
+    public UserResolutionCache(ChunkedUserSearch chunkedUserSearch,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               CacheProperties cacheProperties) {
+        CacheProperties.CacheSpec spec = cacheProperties.getUserResolution();
+        this.chunkedUserSearch = chunkedUserSearch;
+        this.remote = new RemoteCache<>(redisTemplate, objectMapper, KEY_PREFIX, UserSearchResponse.class, spec.getRemoteTtl());
+        this.negativeTtl = spec.getNegativeTtl();
+        this.resolved = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .build();
+        this.unknown = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(negativeTtl != null ? negativeTtl : Duration.ZERO)
+                .build();
+    }
+
+    /**
+     * Looks up users by identifier, querying the user service only for cache misses.
+     *
+     * @return users keyed by normalized identifier (see {@link IdentifierNormalizer}); identifiers nobody
+     * matched are absent, identifiers matched by more than one user are reported as ambiguous
+     */
+    public Lookup lookup(Collection<String> identifiers) {
+        Map<String, UserSearchResponse> byKey = new HashMap<>();
+        Map<String, String> missingByKey = new LinkedHashMap<>();
+
+        for (String identifier : identifiers) {
+            String key = IdentifierNormalizer.normalize(identifier);
+            if (key == null || byKey.containsKey(key) || missingByKey.containsKey(key)) continue;
+            if (unknown.getIfPresent(key) != null) continue;
+            UserSearchResponse user = resolved.getIfPresent(key);
+            if (user != null) {
+                byKey.put(key, user);
+            } else {
+                missingByKey.put(key, identifier);
+            }
+        }
+
+        if (!missingByKey.isEmpty()) {
+            remote.getAll(missingByKey.keySet()).forEach((key, value) -> {
+                missingByKey.remove(key);
+                if (value.isPresent()) {
+                    resolved.put(key, value.get());
+                    byKey.put(key, value.get());
+                } else {
+                    unknown.put(key, Boolean.TRUE);
+                }
+            });
+        }
+
+        Set<String> ambiguous = Set.of();
+        if (!missingByKey.isEmpty()) {
+            Lookup fetched = fetch(missingByKey);
+            byKey.putAll(fetched.users());
+            ambiguous = fetched.ambiguous();
+        }
+        return new Lookup(byKey, ambiguous);
+    }
+
+    public void evict(Collection<String> identifiers) {
+        List<String> keys = identifiers.stream()
+                .map(IdentifierNormalizer::normalize)
+                .filter(k -> k != null)
+                .toList();
+        resolved.invalidateAll(keys);
+        unknown.invalidateAll(keys);
+        remote.evict(keys);
+    }
+
+    private Lookup fetch(Map<String, String> missingByKey) {
+        ChunkedUserSearch.Result result = chunkedUserSearch.search(new ArrayList<>(missingByKey.values()));
+        log.info("Resolved {} identifiers via user service, {} users returned", missingByKey.size(), result.users().size());
+
+        Map<String, UserSearchResponse> returned = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (UserSearchResponse user : result.users()) {
+            for (String key : new String[]{IdentifierNormalizer.normalize(user.getEmail()), IdentifierNormalizer.normalize(user.getPinfl())}) {
+                if (key == null) continue;
+                UserSearchResponse previous = returned.putIfAbsent(key, user);
+                if (previous != null && !previous.getUserId().equals(user.getUserId())) {
+                    ambiguous.add(key);
+                }
+            }
+        }
+        ambiguous.retainAll(missingByKey.keySet());
+        ambiguous.forEach(returned::remove);
+
+        Set<String> failedKeys = result.failedIdentifiers().stream()
+                .map(IdentifierNormalizer::normalize)
+                .collect(Collectors.toSet());
+
+        Map<String, UserSearchResponse> found = new HashMap<>();
+        List<String> notFound = new ArrayList<>();
+        for (String key : missingByKey.keySet()) {
+            UserSearchResponse user = returned.get(key);
+            if (user != null) {
+                found.put(key, user);
+            } else if (!failedKeys.contains(key) && !ambiguous.contains(key)) {
+                notFound.add(key);
+            }
+        }
+
+        resolved.putAll(found);
+        remote.putAll(found);
+        if (negativeTtl != null && !negativeTtl.isZero()) {
+            notFound.forEach(key -> unknown.put(key, Boolean.TRUE));
+            remote.putNegative(notFound, negativeTtl);
+        }
+
+        if (!result.isComplete()) {
+            throw new UserSearchFailedException(result.failedIdentifiers(), found.size(), result.errors());
+        }
+        if (!ambiguous.isEmpty()) {
+            log.warn("{} identifiers matched more than one user", ambiguous.size());
+        }
+        return new Lookup(found, ambiguous);
+    }
+
+    /**
+     * @param users     user per normalized identifier
+     * @param ambiguous normalized identifiers the user service matched to several users; not cached
+     */
+    public record Lookup(Map<String, UserSearchResponse> users, Set<String> ambiguous) {}
+}
@@ -0,0 +1,123 @@
+package uz.consortgroup.webinar_service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uz.consortgroup.webinar_service.entity.Webinar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache regions of webinars and their rosters (bounded Caffeine JCache caches, see
+ * {@code hibernate-jcache.conf}). Hibernate keeps them current for writes it performs itself; roster rows
+ * written through {@code WebinarParticipantBulkRepository} and card previews written through
+ * {@code WebinarCardPreviewRepository} bypass it and must be evicted here.
+ */
+@Slf4j
+@Component
+public class WebinarSecondLevelCache implements LocalCacheInvalidator {
+
+    public static final String WEBINAR_REGION = "webinar";
+    public static final String PARTICIPANTS_REGION = "webinar-roster";
+    public static final String PARTICIPANT_REGION = "webinar-participant";
+    public static final String PARTICIPANTS_QUERY_REGION = "webinar-participants-query";
+
+    private static final String PARTICIPANTS_ROLE = Webinar.class.getName() + ".participants";
+
+    private final SessionFactory sessionFactory;
+
+    public WebinarSecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Drops the cached roster of a webinar right away, so the rest of the current transaction reads the
+     * new rows, and again after commit, so a concurrent reader cannot re-cache the old roster.
+     */
+    public void evictParticipants(UUID webinarId) {
+        evictParticipantsLocal(webinarId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictParticipantsLocal(webinarId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops cached webinars whose columns were written with plain SQL, right away and again after commit.
+     * Other nodes are reached through {@link CacheInvalidationBus}.
+     */
+    public void evictWebinars(Collection<UUID> webinarIds) {
+        evictWebinarsLocal(webinarIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictWebinarsLocal(webinarIds);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String region() {
+        return CacheInvalidationBus.WEBINAR;
+    }
+
+    @Override
+    public void invalidateLocal(Collection<UUID> webinarIds) {
+        Cache cache = sessionFactory.getCache();
+        for (UUID webinarId : webinarIds) {
+            cache.evictEntityData(Webinar.class, webinarId);
+            cache.evictCollectionData(PARTICIPANTS_ROLE, webinarId);
+        }
+        cache.evictQueryRegion(PARTICIPANTS_QUERY_REGION);
+    }
+
+    public List<RegionStats> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<RegionStats> stats = new ArrayList<>();
+        for (String region : List.of(WEBINAR_REGION, PARTICIPANTS_REGION, PARTICIPANT_REGION)) {
+            add(stats, region, statistics.getDomainDataRegionStatistics(region));
+        }
+        add(stats, PARTICIPANTS_QUERY_REGION, statistics.getQueryRegionStatistics(PARTICIPANTS_QUERY_REGION));
+        return stats;
+    }
+
+    private void evictWebinarsLocal(Collection<UUID> webinarIds) {
+        Cache cache = sessionFactory.getCache();
+        webinarIds.forEach(webinarId -> cache.evictEntityData(Webinar.class, webinarId));
+        log.debug("Evicted cached webinars {}", webinarIds);
+    }
+
+    private void evictParticipantsLocal(UUID webinarId) {
+        Cache cache = sessionFactory.getCache();
+        cache.evictCollectionData(PARTICIPANTS_ROLE, webinarId);
+        cache.evictQueryRegion(PARTICIPANTS_QUERY_REGION);
+        log.debug("Evicted cached roster of webinar {}", webinarId);
+    }
+
+    private static void add(List<RegionStats> stats, String region, CacheRegionStatistics regionStats) {
+        if (regionStats == null) {
+            return;
+        }
+        long hits = regionStats.getHitCount();
+        long misses = regionStats.getMissCount();
+        double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        stats.add(new RegionStats(region, hits, misses, regionStats.getPutCount(), hitRatio));
+    }
+
+    public record RegionStats(String region, long hits, long misses, long puts, double hitRatio) {}
+}
@@ -24,6 +24,7 @@ public interface CourseClient {
     UUID getMentorId(@PathVariable("courseId") UUID courseId);
 
 
+    @IdempotentLookup
     @PostMapping("/{courseId}/enrolled/check")
     List<UUID> checkEnrolled(@PathVariable("courseId") UUID courseId,
                              @RequestBody List<UUID> userIds);
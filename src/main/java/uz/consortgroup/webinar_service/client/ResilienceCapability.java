@@ -0,0 +1,63 @@
+package uz.consortgroup.webinar_service.client;
+
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.decorators.Decorators;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+/**
+ * Wraps every Feign call in a semaphore bulkhead and a circuit breaker named after the client
+ * ({@code user-service}, {@code course-service}); GET and {@link IdempotentLookup} methods are also retried.
+ * Retry sits outside the breaker so every attempt is counted, and the bulkhead is innermost so a waiting
+ * retry does not hold a permit. Instances are configured under {@code resilience4j.*.instances.<client>}.
+ */
+public class ResilienceCapability implements Capability {
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final RetryRegistry retries;
+
+    public ResilienceCapability(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads, RetryRegistry retries) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.retries = retries;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory factory) {
+        return (target, dispatch) -> {
+            InvocationHandler delegate = factory.create(target, dispatch);
+            String name = target.name();
+            CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(name);
+            Bulkhead bulkhead = bulkheads.bulkhead(name);
+            Retry retry = retries.retry(name);
+            return (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return delegate.invoke(proxy, method, args);
+                }
+                var call = Decorators.ofCheckedSupplier(() -> delegate.invoke(proxy, method, args))
+                        .withBulkhead(bulkhead)
+                        .withCircuitBreaker(circuitBreaker);
+                if (isIdempotent(method)) {
+                    call = call.withRetry(retry);
+                }
+                return call.get();
+            };
+        };
+    }
+
+    static boolean isIdempotent(Method method) {
+        return AnnotatedElementUtils.hasAnnotation(method, GetMapping.class)
+                || method.isAnnotationPresent(IdempotentLookup.class);
+    }
+}
@@ -25,13 +25,16 @@ import java.util.UUID;
 )
 public interface UserClient {
 
+    @IdempotentLookup
     @PostMapping("/api/v1/internal/users/bulk-search")
     UserBulkSearchResponse searchUsersBulk(@RequestBody UserBulkSearchRequest request);
 
+    @IdempotentLookup
     @PostMapping("/api/v1/internal/users/short-info")
     Map<UUID, UserShortInfoResponseDto> getShortInfoBulk(@RequestBody List<UUID> userIds);
 
 
+    @IdempotentLookup
     @PostMapping("/enrollments/filter")
     List<UUID> filterEnrolled(@RequestBody EnrollmentFilterRequest req);
 
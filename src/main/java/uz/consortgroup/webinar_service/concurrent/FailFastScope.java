@@ -0,0 +1,77 @@
+package uz.consortgroup.webinar_service.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs subtasks on virtual threads with shutdown-on-failure semantics, in the spirit of
+ * {@code StructuredTaskScope.ShutdownOnFailure} (still a preview API on Java 21): the first subtask
+ * to fail cancels the others, {@link #join()} rethrows that failure, and {@link #close()} does not
+ * return until every subtask has finished. Subtasks see the caller's request attributes.
+ */
+public final class FailFastScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Future<?>> forked = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public <T> Future<T> fork(Callable<T> task) {
+        Callable<T> propagated = RequestContextPropagation.wrap(task);
+        Future<T> future = executor.submit(() -> {
+            try {
+                return propagated.call();
+            } catch (Throwable t) {
+                if (failure.compareAndSet(null, t)) {
+                    cancelAll();
+                }
+                throw t;
+            }
+        });
+        forked.add(future);
+        if (failure.get() != null) {
+            future.cancel(true);
+        }
+        return future;
+    }
+
+    /**
+     * Waits for all subtasks and rethrows the first failure, if any. Results of successful
+     * subtasks are then available through {@link Future#resultNow()}.
+     */
+    public void join() {
+        for (Future<?> future : forked) {
+            try {
+                future.get();
+            } catch (CancellationException | ExecutionException ignored) {
+                // reported through the recorded failure below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new CompletionException("Interrupted while waiting for subtasks", e);
+            }
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException re) throw re;
+        if (t instanceof Error error) throw error;
+        if (t != null) throw new CompletionException(t);
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        forked.forEach(future -> future.cancel(true));
+    }
+}
@@ -0,0 +1,32 @@
+package uz.consortgroup.webinar_service.concurrent;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uz.consortgroup.webinar_service.security.PropagatedHeaders;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Carries the caller's request attributes (or, off a request thread, its propagated header snapshot)
+ * onto worker threads so Feign calls made there still forward the auth headers (see
+ * {@code FeignClientConfig}). The caller must wait for the task before its request completes.
+ */
+public final class RequestContextPropagation {
+
+    private RequestContextPropagation() {}
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Map<String, String> headers = attributes == null ? PropagatedHeaders.capture() : null;
+        return () -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                return headers == null ? task.call() : PropagatedHeaders.callWith(headers, task);
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package uz.consortgroup.webinar_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uz.consortgroup.webinar_service.config.properties.ReplicaDataSourceProperties;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary pool from {@code spring.datasource}, plus optional read replicas from {@code app.datasource.replicas}.
+ * The application-wide {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: it fetches the physical
+ * connection on first use, after the transaction manager has marked it read-only, so read-only transactions
+ * are served by a replica and everything else by the primary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(DataSourceProperties primaryProperties,
+                                                      ReplicaDataSourceProperties replicaProperties,
+                                                      HikariDataSource primaryDataSource,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReplicaDataSourceProperties.Replica> nodes = replicaProperties.getReplicas();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaDataSourceProperties.Replica node = nodes.get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setDriverClassName(primaryProperties.determineDriverClassName());
+            replica.setJdbcUrl(node.getUrl());
+            replica.setUsername(node.getUsername() != null ? node.getUsername() : primaryProperties.determineUsername());
+            replica.setPassword(node.getPassword() != null ? node.getPassword() : primaryProperties.determinePassword());
+            replica.setMaximumPoolSize(replicaProperties.getReplicaPoolSize());
+            replica.setConnectionTimeout(replicaProperties.getReplicaConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(replicas, primaryDataSource, replicaProperties.getReplicaRetryAfter());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        if (replicaDataSource.hasReplicas()) {
+            dataSource.setReadOnlyDataSource(replicaDataSource);
+        }
+        return dataSource;
+    }
+}
@@ -1,12 +1,15 @@
 package uz.consortgroup.webinar_service.config;
 
+import feign.Capability;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
-import jakarta.servlet.http.HttpServletRequest;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import uz.consortgroup.webinar_service.client.ResilienceCapability;
+import uz.consortgroup.webinar_service.security.PropagatedHeaders;
 
 @Configuration
 public class FeignClientConfig {
@@ -16,30 +19,14 @@ public class FeignClientConfig {
         return this::propagateHeaders;
     }
 
-    private void propagateHeaders(RequestTemplate template) {
-        ServletRequestAttributes attrs =
-                (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attrs == null) {
-            return;
-        }
-        HttpServletRequest req = attrs.getRequest();
-
-        String auth = req.getHeader("Authorization");
-        if (auth != null && !auth.isBlank()) {
-            template.header("Authorization", auth);
-        }
-
-        copyHeader(req, template, "X-User-Id");
-        copyHeader(req, template, "X-User-Email");
-        copyHeader(req, template, "X-User-Roles");
-        copyHeader(req, template, "X-Auth-Validated");
-        copyHeader(req, template, "X-Request-Id");
+    @Bean
+    public Capability resilienceCapability(CircuitBreakerRegistry circuitBreakers,
+                                           BulkheadRegistry bulkheads,
+                                           RetryRegistry retries) {
+        return new ResilienceCapability(circuitBreakers, bulkheads, retries);
     }
 
-    private static void copyHeader(HttpServletRequest req, RequestTemplate template, String name) {
-        String value = req.getHeader(name);
-        if (value != null && !value.isBlank()) {
-            template.header(name, value);
-        }
+    private void propagateHeaders(RequestTemplate template) {
+        PropagatedHeaders.capture().forEach(template::header);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package uz.consortgroup.webinar_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import uz.consortgroup.webinar_service.config.properties.StorageProperties;
+
+@Slf4j
+@Configuration
+public class PreviewDerivativeConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor previewDerivativeExecutor(StorageProperties storageProperties) {
+        StorageProperties.DerivativeProperties props = storageProperties.getImage().getDerivatives();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("preview-derivative-");
+        executor.setCorePoolSize(props.getPoolSize());
+        executor.setMaxPoolSize(props.getPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Preview derivative queue is full ({} tasks), skipping task", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,69 @@
+package uz.consortgroup.webinar_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hands out read-only connections from the replicas in round-robin order. A replica whose pool cannot
+ * produce a connection is skipped for {@code retryAfter}; when no replica is available the primary is used.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> replicas;
+    private final DataSource primary;
+    private final long retryAfterNanos;
+    private final AtomicLongArray downUntil;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(List<HikariDataSource> replicas, DataSource primary, Duration retryAfter) {
+        this.replicas = List.copyOf(replicas);
+        this.primary = primary;
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.downUntil = new AtomicLongArray(replicas.size());
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            if (System.nanoTime() - downUntil.get(index) < 0) {
+                continue;
+            }
+            HikariDataSource replica = replicas.get(index);
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                downUntil.set(index, System.nanoTime() + retryAfterNanos);
+                log.warn("Read replica {} unavailable, skipping it for {} ms: {}",
+                        replica.getPoolName(), retryAfterNanos / 1_000_000, e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,77 @@
+package uz.consortgroup.webinar_service.config.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Data
+public class CacheProperties {
+
+    @NotNull
+    private CacheSpec tutorInfo = new CacheSpec(10_000, Duration.ofMinutes(5), Duration.ofHours(1));
+
+    @NotNull
+    private CacheSpec userResolution = new CacheSpec(50_000, Duration.ofMinutes(10), null, Duration.ofMinutes(1));
+
+    @NotNull
+    private CacheSpec courseMetadata = new CacheSpec(10_000, Duration.ofMinutes(5), Duration.ofMinutes(30));
+
+    @NotNull
+    private CacheSpec courseEnrollment = new CacheSpec(1_000, Duration.ofMinutes(2), null);
+
+    @NotNull
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class Invalidation {
+
+        /**
+         * Publish and subscribe to cross-node invalidations over Redis pub/sub.
+         */
+        private boolean enabled;
+
+        @NotBlank(message = "Invalidation channel must not be blank")
+        private String channel = "webinar:cache-invalidation";
+    }
+
+    @Data
+    public static class CacheSpec {
+
+        @Positive(message = "Max size must be positive")
+        private long maxSize;
+
+        @NotNull(message = "Local TTL must not be null")
+        private Duration localTtl;
+
+        /**
+         * TTL of the shared Redis copy; {@code null} or zero disables the Redis level.
+         */
+        private Duration remoteTtl;
+
+        /**
+         * How long a lookup that found nothing is remembered; {@code null} or zero disables negative caching.
+         */
+        private Duration negativeTtl;
+
+        public CacheSpec() {
+        }
+
+        public CacheSpec(long maxSize, Duration localTtl, Duration remoteTtl) {
+            this(maxSize, localTtl, remoteTtl, null);
+        }
+
+        public CacheSpec(long maxSize, Duration localTtl, Duration remoteTtl, Duration negativeTtl) {
+            this.maxSize = maxSize;
+            this.localTtl = localTtl;
+            this.remoteTtl = remoteTtl;
+            this.negativeTtl = negativeTtl;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package uz.consortgroup.webinar_service.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "app.datasource")
+@Data
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Read replicas for {@code @Transactional(readOnly = true)} work; empty sends everything to the primary.
+     */
+    @Valid
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Positive(message = "Replica pool size must be positive")
+    private int replicaPoolSize = 10;
+
+    /**
+     * How long a read waits for a replica connection before trying the next replica or the primary.
+     */
+    @NotNull(message = "Replica connection timeout must not be null")
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * How long a replica that failed to hand out a connection is skipped.
+     */
+    @NotNull(message = "Replica retry interval must not be null")
+    private Duration replicaRetryAfter = Duration.ofSeconds(30);
+
+    @Data
+    public static class Replica {
+
+        @NotBlank(message = "Replica URL must not be blank")
+        private String url;
+
+        /**
+         * Defaults to the primary's credentials.
+         */
+        private String username;
+
+        private String password;
+    }
+}
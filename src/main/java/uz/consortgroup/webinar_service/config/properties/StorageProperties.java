@@ -19,6 +19,11 @@ public class StorageProperties {
     @NotNull(message = "Base directory must not be null")
     private Path baseDir;
 
+    /**
+     * Store uploads under their SHA-256 digest so identical files share one blob on disk.
+     */
+    private boolean contentAddressed;
+
     @NotNull
     private ImageProperties image;
 
@@ -38,8 +43,29 @@ public class StorageProperties {
         @NotEmpty(message = "Allowed extensions must not be empty")
         private List<String> allowedExtensions;
 
+        @NotNull
+        private DerivativeProperties derivatives = new DerivativeProperties();
+
         public Path getLocation(Path baseDir) {
             return baseDir.resolve(subDir);
         }
     }
+
+    @Data
+    public static class DerivativeProperties {
+
+        private boolean enabled = true;
+
+        @NotEmpty(message = "Derivative widths must not be empty")
+        private List<Integer> widths = List.of(320, 640, 1280);
+
+        @Positive(message = "Card width must be positive")
+        private int cardWidth = 320;
+
+        @Positive(message = "Derivative pool size must be positive")
+        private int poolSize = 2;
+
+        @Positive(message = "Derivative queue capacity must be positive")
+        private int queueCapacity = 100;
+    }
 }
@@ -0,0 +1,87 @@
+package uz.consortgroup.webinar_service.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.webinar_service.cache.CacheInvalidationBus;
+import uz.consortgroup.webinar_service.cache.CourseEnrollmentCache;
+import uz.consortgroup.webinar_service.cache.CourseMetadataCache;
+import uz.consortgroup.webinar_service.cache.TutorInfoCache;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
+import uz.consortgroup.webinar_service.exception.ForbiddenException;
+import uz.consortgroup.webinar_service.security.AuthContext;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/internal/cache")
+@Tag(name = "Internal cache", description = "Служебная инвалидация кэшей, только для ADMIN и SUPER_ADMIN")
+public class InternalCacheController {
+
+    private final TutorInfoCache tutorInfoCache;
+    private final CourseMetadataCache courseMetadataCache;
+    private final CourseEnrollmentCache courseEnrollmentCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final WebinarSecondLevelCache webinarSecondLevelCache;
+    private final AuthContext authContext;
+
+    @Operation(summary = "Сбросить кэш данных тьюторов", description = "Удаляет краткую информацию о пользователях из локального кэша и Redis и рассылает инвалидацию остальным узлам.")
+    @PostMapping("/tutors/evict")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictTutors(@RequestBody List<UUID> userIds) {
+        requireAdmin();
+        tutorInfoCache.evict(userIds);
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.TUTOR, userIds);
+    }
+
+    @Operation(summary = "Сбросить локальный кэш данных тьюторов")
+    @DeleteMapping("/tutors")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictAllTutorsLocal() {
+        requireAdmin();
+        tutorInfoCache.evictAllLocal();
+    }
+
+    @Operation(summary = "Сбросить кэш данных курсов", description = "Удаляет признак существования курса, ментора и закэшированные записи о зачислении на всех узлах.")
+    @PostMapping("/courses/evict")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictCourses(@RequestBody List<UUID> courseIds) {
+        requireAdmin();
+        courseMetadataCache.evict(courseIds);
+        courseEnrollmentCache.evict(courseIds);
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.COURSE, courseIds);
+    }
+
+    @Operation(summary = "Сбросить локальный кэш данных курсов")
+    @DeleteMapping("/courses")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictAllCoursesLocal() {
+        requireAdmin();
+        courseMetadataCache.evictAllLocal();
+    }
+
+    @Operation(summary = "Статистика кэша второго уровня Hibernate", description = "Попадания, промахи, записи и доля попаданий по регионам вебинаров и участников на текущем узле.")
+    @GetMapping("/hibernate")
+    public List<WebinarSecondLevelCache.RegionStats> secondLevelCacheStats() {
+        requireAdmin();
+        return webinarSecondLevelCache.stats();
+    }
+
+    private void requireAdmin() {
+        UserRole role = authContext.getCurrentUserRole();
+        if (role != UserRole.ADMIN && role != UserRole.SUPER_ADMIN) {
+            throw new ForbiddenException("Cache administration requires ADMIN or SUPER_ADMIN role");
+        }
+    }
+}
@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -14,17 +16,30 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarCreateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarUpdateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListPageResponse;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarResponseDto;
+import uz.consortgroup.webinar_service.exception.ApiError;
+import uz.consortgroup.webinar_service.pagination.WebinarListSlice;
+import uz.consortgroup.webinar_service.service.storage.PreviewDeliveryService;
+import uz.consortgroup.webinar_service.service.webinar.ListDegradation;
 import uz.consortgroup.webinar_service.service.webinar.WebinarService;
+import uz.consortgroup.webinar_service.service.webinar.importing.ParticipantImportService;
+import uz.consortgroup.webinar_service.service.webinar.importing.ParticipantImportStatus;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -38,7 +53,14 @@ public class WebinarController {
             "Файл превью (часть 'file'), опционально. Допустимые типы: image/jpeg, image/png. " +
                     "Расширения: jpg, jpeg, png. Максимальный размер: 100MB.";
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String PREV_CURSOR_HEADER = "X-Prev-Cursor";
+    static final String DEGRADED_HEADER = "X-Degraded";
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final WebinarService webinarService;
+    private final PreviewDeliveryService previewDeliveryService;
+    private final ParticipantImportService participantImportService;
 
     @Operation(
             summary = "Создать вебинар",
@@ -115,6 +137,8 @@ public class WebinarController {
                     Если participants=null — состав участников не изменяется.
                     Если participants=[] — состав будет очищен.
                     Если onlyCourseParticipants=true — в состав допустимы только записанные на курс.
+                    Гостевые пользователи (GUEST_USER) в состав не добавляются и пропускаются без ошибки.
+                    Если идентификатор соответствует нескольким пользователям, обновление отклоняется с кодом 409.
                     """,
             responses = {
                     @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = WebinarResponseDto.class))),
@@ -122,6 +146,7 @@ public class WebinarController {
                     @ApiResponse(responseCode = "401", description = "Не авторизован"),
                     @ApiResponse(responseCode = "403", description = "Нет доступа"),
                     @ApiResponse(responseCode = "404", description = "Вебинар/курс не найден"),
+                    @ApiResponse(responseCode = "409", description = "Идентификатор участника соответствует нескольким пользователям", content = @Content(schema = @Schema(implementation = ApiError.class))),
                     @ApiResponse(responseCode = "413", description = "Размер файла превышает лимит (100MB)"),
                     @ApiResponse(responseCode = "415", description = "Неподдерживаемый тип файла (image/jpeg, image/png)")
             }
@@ -187,30 +212,150 @@ public class WebinarController {
         webinarService.deleteWebinar(webinarId);
     }
 
+    @Operation(
+            summary = "Импорт участников из файла",
+            description = """
+                    Принимает CSV или XLSX (часть 'file') и сразу возвращает задачу импорта (202).
+                    Идентификаторы (email или 14-значный ПИНФЛ) читаются из первого столбца, строка заголовка пропускается.
+                    Файл обрабатывается в фоне порциями: пользователи-гости пропускаются, а при onlyCourseParticipants=true
+                    пропускаются и не записанные на курс. Прогресс доступен по адресу из заголовка Location.
+                    """,
+            parameters = {
+                    @Parameter(name = "webinarId", description = "UUID вебинара", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Задача принята", content = @Content(schema = @Schema(implementation = ParticipantImportStatus.class))),
+                    @ApiResponse(responseCode = "400", description = "Пустой файл или неподдерживаемый формат"),
+                    @ApiResponse(responseCode = "401", description = "Неавторизован"),
+                    @ApiResponse(responseCode = "403", description = "Нет доступа"),
+                    @ApiResponse(responseCode = "404", description = "Вебинар не найден"),
+                    @ApiResponse(responseCode = "503", description = "Очередь импорта переполнена")
+            }
+    )
+    @PostMapping(value = "/{webinarId}/participants/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ParticipantImportStatus> importParticipants(
+            @PathVariable UUID webinarId,
+            @Parameter(
+                    description = "Файл участников (.csv или .xlsx)",
+                    required = true,
+                    content = @Content(schema = @Schema(type = "string", format = "binary"))
+            )
+            @RequestPart("file") MultipartFile file
+    ) {
+        ParticipantImportStatus status = participantImportService.submit(webinarId, file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/webinars/" + webinarId + "/participants/import/" + status.jobId()))
+                .body(status);
+    }
+
+    @Operation(
+            summary = "Статус импорта участников",
+            description = "Возвращает состояние задачи импорта и счетчики: строк, найдено, не найдено, не записаны на курс, гости, добавлено, ошибки поиска.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = ParticipantImportStatus.class))),
+                    @ApiResponse(responseCode = "404", description = "Задача не найдена или устарела")
+            }
+    )
+    @GetMapping("/{webinarId}/participants/import/{jobId}")
+    public ParticipantImportStatus getImportStatus(@PathVariable UUID webinarId, @PathVariable UUID jobId) {
+        return participantImportService.getStatus(webinarId, jobId);
+    }
+
+    @Operation(
+            summary = "Получить превью вебинара",
+            description = """
+                    Отдает файл превью по имени из previewUrl.
+                    Поддерживает ETag / If-None-Match, Last-Modified / If-Modified-Since (304) и Range-запросы (206).
+                    Файлы превью неизменяемы, поэтому ответ кэшируется на год (Cache-Control: immutable).
+                    """,
+            parameters = {
+                    @Parameter(name = "filename", description = "Имя файла превью", required = true, example = "3f1c9a52-5d0e-4a8b-9d43-8f0a6c2b7e11.png")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "206", description = "Часть файла (Range)"),
+                    @ApiResponse(responseCode = "304", description = "Не изменен"),
+                    @ApiResponse(responseCode = "404", description = "Не найден"),
+                    @ApiResponse(responseCode = "416", description = "Недопустимый диапазон")
+            }
+    )
+    @GetMapping("/preview/{filename}")
+    public void getPreview(@PathVariable String filename,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        previewDeliveryService.serve(filename, request, response);
+    }
+
     @Operation(
             summary = "Список вебинаров (пагинация)",
             description = """
                     Возвращает список вебинаров по категории и языку с пагинацией.
                     Параметры пагинации: page (0..N), size, sort (например, sort=startTime,desc).
+                    
+                    paging=cursor включает курсорную (keyset) пагинацию: page и sort игнорируются,
+                    totalPages/totalElements не считаются, а курсоры следующей/предыдущей страницы
+                    возвращаются в заголовках X-Next-Cursor / X-Prev-Cursor и передаются обратно в параметре cursor.
+                    
+                    Ответ содержит ETag, вычисленный по строкам страницы. При совпадении заголовка If-None-Match
+                    возвращается 304 без тела, а данные преподавателей не загружаются.
+                    
+                    Если сервис пользователей недоступен, список всё равно возвращается: данные преподавателей
+                    берутся из кэша или опускаются (пустой tutors), в ответе выставляется заголовок X-Degraded: tutors,
+                    Cache-Control: no-store и отдельный ETag, который не совпадает с ETag полного ответа.
                     """,
             parameters = {
-                    @Parameter(name = "category", required = true, description = "Категория вебинара (например: planned, past)", example = "planned"),
+                    @Parameter(name = "category", required = true, description = "Категория вебинара: planned, past или mine (предстоящие вебинары текущего пользователя)", example = "planned"),
                     @Parameter(name = "lang", description = "Код языка интерфейса", example = "ru",
-                            schema = @Schema(allowableValues = {"ru", "en", "uz", "uzk", "kaa"}))
+                            schema = @Schema(allowableValues = {"ru", "en", "uz", "uzk", "kaa"})),
+                    @Parameter(name = "paging", description = "Режим пагинации", example = "offset",
+                            schema = @Schema(allowableValues = {"offset", "cursor"})),
+                    @Parameter(name = "cursor", description = "Непрозрачный курсор из X-Next-Cursor / X-Prev-Cursor (только для paging=cursor)")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = WebinarListPageResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Список не изменился (If-None-Match)"),
+                    @ApiResponse(responseCode = "400", description = "Некорректный курсор или курсор выдан для другой категории/пользователя"),
                     @ApiResponse(responseCode = "401", description = "Неавторизован"),
                     @ApiResponse(responseCode = "403", description = "Нет доступа")
             }
     )
     @GetMapping("/list")
-    @ResponseStatus(HttpStatus.OK)
-    public WebinarListPageResponse getWebinars(
+    public ResponseEntity<WebinarListPageResponse> getWebinars(
             @RequestParam @NotBlank String category,
             @RequestParam(defaultValue = "ru") @Pattern(regexp = "ru|en|uz|uzk|kaa") String lang,
-            @ParameterObject @PageableDefault(size = 10) @Valid Pageable pageable
+            @RequestParam(defaultValue = "offset") @Pattern(regexp = "offset|cursor") String paging,
+            @RequestParam(required = false) String cursor,
+            @ParameterObject @PageableDefault(size = 10) @Valid Pageable pageable,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
-        return webinarService.getWebinars(category, lang, pageable);
+        WebinarListSlice slice = "cursor".equals(paging)
+                ? webinarService.getWebinarsByCursor(category, lang, cursor, pageable.getPageSize())
+                : webinarService.getWebinars(category, lang, pageable);
+        if (webRequest.checkNotModified(slice.etag())) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.nextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, slice.nextCursor());
+        }
+        if (slice.prevCursor() != null) {
+            headers.set(PREV_CURSOR_HEADER, slice.prevCursor());
+        }
+        WebinarListPageResponse body = webinarService.toListPage(slice);
+
+        Set<String> degraded = ListDegradation.components(webRequest);
+        if (!degraded.isEmpty()) {
+            // checkNotModified already wrote the healthy validator; a degraded body must never revalidate as it
+            response.setHeader(HttpHeaders.ETAG, degradedETag(slice.etag()));
+            headers.set(DEGRADED_HEADER, String.join(",", degraded));
+            return ResponseEntity.ok().headers(headers).cacheControl(CacheControl.noStore()).body(body);
+        }
+        return ResponseEntity.ok().headers(headers).cacheControl(LIST_CACHE_CONTROL).body(body);
+    }
+
+    private static String degradedETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-degraded\"";
     }
 }
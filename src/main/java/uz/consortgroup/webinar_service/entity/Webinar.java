@@ -15,8 +15,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import uz.consortgroup.core.api.v1.dto.webinar.enumeration.LanguageCode;
 import uz.consortgroup.core.api.v1.dto.webinar.enumeration.WebinarCategory;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +32,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = WebinarSecondLevelCache.WEBINAR_REGION)
 public class Webinar {
 
     @Id
@@ -48,6 +52,9 @@ public class Webinar {
     @Column(name = "preview_filename")
     private String previewFilename;
 
+    @Column(name = "card_preview_filename", insertable = false, updatable = false)
+    private String cardPreviewFilename;
+
     @Column(name = "start_time", nullable = false)
     private LocalDateTime startTime;
 
@@ -77,5 +84,6 @@ public class Webinar {
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "webinar", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = WebinarSecondLevelCache.PARTICIPANTS_REGION)
     private List<WebinarParticipant> participants;
 }
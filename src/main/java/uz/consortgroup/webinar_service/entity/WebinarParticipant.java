@@ -16,6 +16,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -30,6 +33,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = WebinarSecondLevelCache.PARTICIPANT_REGION)
 public class WebinarParticipant {
 
     @Id
@@ -0,0 +1,15 @@
+package uz.consortgroup.webinar_service.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AmbiguousIdentifierException extends RuntimeException {
+    private final List<String> identifiers;
+
+    public AmbiguousIdentifierException(List<String> identifiers) {
+        super("Identifiers match more than one user: " + identifiers);
+        this.identifiers = identifiers;
+    }
+}
@@ -0,0 +1,7 @@
+package uz.consortgroup.webinar_service.exception;
+
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
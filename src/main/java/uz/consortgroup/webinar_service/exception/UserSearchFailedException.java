@@ -0,0 +1,19 @@
+package uz.consortgroup.webinar_service.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserSearchFailedException extends RuntimeException {
+    private final List<String> failedIdentifiers;
+    private final int resolvedCount;
+    private final List<String> errors;
+
+    public UserSearchFailedException(List<String> failedIdentifiers, int resolvedCount, List<String> errors) {
+        super("User search failed for " + failedIdentifiers.size() + " identifiers");
+        this.failedIdentifiers = failedIdentifiers;
+        this.resolvedCount = resolvedCount;
+        this.errors = errors;
+    }
+}
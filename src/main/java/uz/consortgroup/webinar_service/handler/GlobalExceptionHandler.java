@@ -1,8 +1,11 @@
 package uz.consortgroup.webinar_service.handler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,13 +13,18 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import uz.consortgroup.webinar_service.exception.AmbiguousIdentifierException;
 import uz.consortgroup.webinar_service.exception.ApiError;
 import uz.consortgroup.webinar_service.exception.CourseNotFoundException;
 import uz.consortgroup.webinar_service.exception.FileStorageException;
+import uz.consortgroup.webinar_service.exception.ForbiddenException;
+import uz.consortgroup.webinar_service.exception.InvalidCursorException;
+import uz.consortgroup.webinar_service.exception.InvalidImportFileException;
 import uz.consortgroup.webinar_service.exception.NotEnrolledParticipantsException;
 import uz.consortgroup.webinar_service.exception.ResourceNotFoundException;
 import uz.consortgroup.webinar_service.exception.UnauthorizedException;
 import uz.consortgroup.webinar_service.exception.UserNotFoundException;
+import uz.consortgroup.webinar_service.exception.UserSearchFailedException;
 import uz.consortgroup.webinar_service.exception.WebinarNotFoundException;
 
 import java.util.List;
@@ -54,6 +62,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(body); // 422
     }
 
+    @ExceptionHandler(UserSearchFailedException.class)
+    public ResponseEntity<ApiError> handleUserSearchFailed(UserSearchFailedException ex) {
+        log.error("User search partially failed: {} identifiers unresolved, errors: {}", ex.getFailedIdentifiers().size(), ex.getErrors());
+        ApiError body = ApiError.builder()
+                .code("USER_SEARCH_PARTIAL_FAILURE")
+                .message(ex.getMessage())
+                .details(Map.of(
+                        "resolved", ex.getResolvedCount(),
+                        "failed", ex.getFailedIdentifiers().size(),
+                        "failedIdentifiers", ex.getFailedIdentifiers(),
+                        "errors", ex.getErrors()
+                ))
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(body); // 502
+    }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -96,6 +119,13 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), "Course not found", ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        log.error("Invalid cursor: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Invalid cursor", ex.getMessage()));
+    }
+
     @ExceptionHandler(FileStorageException.class)
     public ResponseEntity<ErrorResponse> handleFileStorageException(FileStorageException ex) {
         log.error("File storage error: {}", ex.getMessage());
@@ -110,6 +140,13 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), "Unauthorized", ex.getMessage()));
     }
 
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbiddenException(ForbiddenException ex) {
+        log.error("Forbidden: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse(HttpStatus.FORBIDDEN.value(), "Forbidden", ex.getMessage()));
+    }
+
     @ExceptionHandler(WebinarNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleWebinarNotFoundException(WebinarNotFoundException ex) {
         log.error("Webinar not found: {}", ex.getMessage());
@@ -117,6 +154,17 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), "Webinar not found", ex.getMessage()));
     }
 
+    @ExceptionHandler(AmbiguousIdentifierException.class)
+    public ResponseEntity<ApiError> handleAmbiguousIdentifier(AmbiguousIdentifierException ex) {
+        log.warn("Ambiguous participant identifiers: {}", ex.getIdentifiers());
+        ApiError body = ApiError.builder()
+                .code("AMBIGUOUS_IDENTIFIERS")
+                .message(ex.getMessage())
+                .details(Map.of("identifiers", ex.getIdentifiers()))
+                .build();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body); // 409
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
         log.error("User not found: {}", ex.getMessage());
@@ -130,4 +178,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), "Resource not found", ex.getMessage()));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportFileException(InvalidImportFileException ex) {
+        log.error("Invalid import file: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Invalid import file", ex.getMessage()));
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ErrorResponse> handleDependencyUnavailable(RuntimeException ex) {
+        log.warn("Dependency call rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Dependency unavailable", "Связанный сервис временно недоступен, повторите попытку позже"));
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException ex) {
+        log.error("Background task rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many background jobs", "Очередь задач переполнена, повторите попытку позже"));
+    }
+}
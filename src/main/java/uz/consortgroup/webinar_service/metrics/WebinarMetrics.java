@@ -0,0 +1,129 @@
+package uz.consortgroup.webinar_service.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Domain meters for storage, participant operations, cache invalidation and request coalescing. HTTP endpoints
+ * and Feign clients are timed by Spring Boot ({@code http.server.requests}) and feign-micrometer ({@code http.client.requests}).
+ */
+@Component
+@RequiredArgsConstructor
+public class WebinarMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void storageStored(Timer.Sample sample, String mode, String outcome, long bytes) {
+        sample.stop(Timer.builder("webinar.storage.store")
+                .description("Preview file store latency")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+        if (SUCCESS.equals(outcome)) {
+            DistributionSummary.builder("webinar.storage.store.size")
+                    .description("Size of stored preview files")
+                    .baseUnit("bytes")
+                    .tag("mode", mode)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(bytes);
+        }
+    }
+
+    public void storageDeduplicated() {
+        registry.counter("webinar.storage.deduplicated").increment();
+    }
+
+    /**
+     * @param outcome {@code deleted} when the file was removed, {@code released} when only a reference was dropped
+     */
+    public void storageDeleted(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("webinar.storage.delete")
+                .description("Preview file delete latency")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public void participantsProcessed(Timer.Sample sample, String operation, String outcome, int rosterSize) {
+        sample.stop(Timer.builder("webinar.participants")
+                .description("Participant add/update latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+        DistributionSummary.builder("webinar.participants.roster.size")
+                .description("Identifiers per participant add/update")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(rosterSize);
+    }
+
+    /**
+     * @param change {@code inserted} or {@code deleted}
+     */
+    public void participantRowsWritten(String operation, String change, int rows) {
+        DistributionSummary.builder("webinar.participants.rows")
+                .description("Participant rows written per operation")
+                .tag("operation", operation)
+                .tag("change", change)
+                .register(registry)
+                .record(rows);
+    }
+
+    /**
+     * @param component the part of the list response that was omitted, e.g. {@code tutors}
+     */
+    public void listDegraded(String component) {
+        registry.counter("webinar.list.degraded", "component", component).increment();
+    }
+
+    /**
+     * One lookup through a single-flight layer.
+     *
+     * @param loaded    keys this lookup fetched from the dependency itself
+     * @param coalesced keys it took from a call another request already had in flight
+     */
+    public void singleFlight(String name, int loaded, int coalesced) {
+        registry.counter("webinar.singleflight.keys", "name", name, "outcome", "loaded").increment(loaded);
+        registry.counter("webinar.singleflight.keys", "name", name, "outcome", "coalesced").increment(coalesced);
+        registry.counter("webinar.singleflight.calls", "name", name, "outcome", loaded > 0 ? "downstream" : "coalesced").increment();
+    }
+
+    public void cacheInvalidationPublished(String region) {
+        registry.counter("webinar.cache.invalidation.published", "region", region).increment();
+    }
+
+    /**
+     * @param lag time from publish on the origin node to local eviction here; subject to clock skew between nodes
+     */
+    public void cacheInvalidationApplied(String region, Duration lag) {
+        Timer.builder("webinar.cache.invalidation.lag")
+                .description("Delay between publishing a cache invalidation and applying it on another node")
+                .tag("region", region)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(lag);
+    }
+
+    /**
+     * @param reason {@code publish}, {@code malformed} or {@code handler}
+     */
+    public void cacheInvalidationDropped(String reason) {
+        registry.counter("webinar.cache.invalidation.dropped", "reason", reason).increment();
+    }
+}
@@ -0,0 +1,61 @@
+package uz.consortgroup.webinar_service.pagination;
+
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.webinar_service.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position: the sort key and id of the boundary row plus the direction to read from it,
+ * bound to the category and user scope whose ordering it was taken from.
+ * Clients receive it as a base64url token and must not rely on its format.
+ */
+public record WebinarCursor(String category, String scope, Direction direction, LocalDateTime sortValue, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public enum Direction { NEXT, PREV }
+
+    /**
+     * Fingerprint of the user the listing was filtered for; a cursor only seeks within the same result set.
+     */
+    public static String scopeOf(UUID userId, UserRole role) {
+        return Integer.toHexString(Objects.hash(userId, role));
+    }
+
+    public void assertIssuedFor(String category, String scope) {
+        if (!this.category.equals(category) || !this.scope.equals(scope)) {
+            throw new InvalidCursorException("Cursor was issued for a different category or user");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, category, scope, direction.name(), sortValue.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WebinarCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 5) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            return new WebinarCursor(
+                    parts[0],
+                    parts[1],
+                    Direction.valueOf(parts[2]),
+                    LocalDateTime.parse(parts[3]),
+                    UUID.fromString(parts[4])
+            );
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package uz.consortgroup.webinar_service.pagination;
+
+import uz.consortgroup.webinar_service.repository.WebinarListRow;
+
+import java.util.List;
+
+/**
+ * One page of list rows as loaded from the database, before tutor lookup and card assembly. Totals are set
+ * for offset paging and cursors for cursor paging; {@code etag} is the weak validator derived from the rows.
+ */
+public record WebinarListSlice(
+        String lang,
+        List<WebinarListRow> rows,
+        Long totalElements,
+        Integer totalPages,
+        String nextCursor,
+        String prevCursor,
+        String etag) {
+}
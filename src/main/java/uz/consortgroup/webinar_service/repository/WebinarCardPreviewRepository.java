@@ -0,0 +1,36 @@
+package uz.consortgroup.webinar_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes {@code webinars.card_preview_filename} with plain SQL. A bulk HQL update would invalidate the whole
+ * webinar second-level cache region, so callers evict only the affected ids through
+ * {@code WebinarSecondLevelCache} instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WebinarCardPreviewRepository {
+
+    private static final String RECORD_SQL =
+            "UPDATE webinar_schema.webinars SET card_preview_filename = ? WHERE preview_filename = ? RETURNING id";
+    private static final String CLEAR_SQL =
+            "UPDATE webinar_schema.webinars SET card_preview_filename = NULL WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return ids of the webinars using {@code previewFilename}, now pointing at {@code cardFilename}
+     */
+    public List<UUID> recordCardPreview(String previewFilename, String cardFilename) {
+        return jdbcTemplate.queryForList(RECORD_SQL, UUID.class, cardFilename, previewFilename);
+    }
+
+    public void clearCardPreview(UUID webinarId) {
+        jdbcTemplate.update(CLEAR_SQL, webinarId);
+    }
+}
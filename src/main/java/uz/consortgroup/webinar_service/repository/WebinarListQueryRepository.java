@@ -0,0 +1,82 @@
+package uz.consortgroup.webinar_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import uz.consortgroup.webinar_service.entity.Webinar;
+
+import java.util.List;
+
+/**
+ * Read path of the webinar list endpoints. Rows are projected into {@link WebinarListRow} so nothing
+ * enters the persistence context, and queries carry Hibernate's read-only and manual flush hints so
+ * the surrounding read-only transaction never dirty-checks or flushes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WebinarListQueryRepository {
+
+    private final EntityManager entityManager;
+
+    public Page<WebinarListRow> findPage(Specification<Webinar> spec, Pageable pageable) {
+        List<WebinarListRow> content = findRows(spec, pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    public List<WebinarListRow> findRows(Specification<Webinar> spec, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<WebinarListRow> query = cb.createQuery(WebinarListRow.class);
+        Root<Webinar> root = query.from(Webinar.class);
+        query.select(cb.construct(WebinarListRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("startTime"),
+                root.get("endTime"),
+                root.get("platformUrl"),
+                root.get("previewFilename"),
+                root.get("previewUrl"),
+                root.get("cardPreviewFilename"),
+                root.get("createdBy")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return readOnly(entityManager.createQuery(query))
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public long count(Specification<Webinar> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Webinar> root = query.from(Webinar.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return readOnly(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+}
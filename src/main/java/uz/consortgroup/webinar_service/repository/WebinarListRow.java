@@ -0,0 +1,31 @@
+package uz.consortgroup.webinar_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a webinar list card needs, selected with a constructor expression instead of loading
+ * managed {@code Webinar} entities.
+ */
+public record WebinarListRow(
+        UUID id,
+        String title,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String platformUrl,
+        String previewFilename,
+        String previewUrl,
+        String cardPreviewFilename,
+        UUID createdBy
+) {
+    /**
+     * Value of a list sort property, used to build keyset cursors.
+     */
+    public LocalDateTime sortValue(String property) {
+        return switch (property) {
+            case "startTime" -> startTime;
+            case "endTime" -> endTime;
+            default -> throw new IllegalArgumentException("Unsupported list sort property: " + property);
+        };
+    }
+}
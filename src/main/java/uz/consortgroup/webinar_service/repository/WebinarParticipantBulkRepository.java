@@ -0,0 +1,112 @@
+package uz.consortgroup.webinar_service.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based writes to {@code webinar_participants} that bypass per-entity persistence.
+ * Rows are sent as multi-row {@code INSERT ... ON CONFLICT DO NOTHING} statements in fixed-size
+ * chunks with client-generated ids, so a roster costs {@code ceil(n / chunkSize)} round trips.
+ */
+@Slf4j
+@Repository
+public class WebinarParticipantBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO webinar_schema.webinar_participants (id, webinar_id, user_id, created_at) VALUES ";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (webinar_id, user_id) DO NOTHING";
+    private static final int COLUMNS = 4;
+    // PostgreSQL's wire protocol carries at most 32767 bind parameters per statement
+    private static final int MAX_CHUNK_SIZE = 32767 / COLUMNS;
+    private static final String DELETE_SQL =
+            "DELETE FROM webinar_schema.webinar_participants WHERE webinar_id = ? AND user_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final String fullChunkSql;
+
+    public WebinarParticipantBulkRepository(JdbcTemplate jdbcTemplate,
+                                            @Value("${webinar.participants.insert-chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("webinar.participants.insert-chunk-size must be between 1 and "
+                    + MAX_CHUNK_SIZE + ", got " + chunkSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.fullChunkSql = insertSql(chunkSize);
+    }
+
+    /**
+     * Inserts the given users as participants, silently skipping pairs that already exist.
+     *
+     * @return number of rows actually inserted
+     */
+    public int insertIgnoringDuplicates(UUID webinarId, Collection<UUID> userIds, LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(userIds);
+        int inserted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Object[] args = new Object[chunk.size() * COLUMNS];
+            int i = 0;
+            for (UUID userId : chunk) {
+                args[i++] = UUID.randomUUID();
+                args[i++] = webinarId;
+                args[i++] = userId;
+                args[i++] = createdAt;
+            }
+            String sql = chunk.size() == chunkSize ? fullChunkSql : insertSql(chunk.size());
+            inserted += jdbcTemplate.update(sql, args);
+        }
+
+        log.debug("Bulk inserted {} of {} participants into webinar {}", inserted, ids.size(), webinarId);
+        return inserted;
+    }
+
+    /**
+     * Removes the given users from the webinar with one {@code DELETE ... = ANY(?)} per chunk.
+     *
+     * @return number of rows deleted
+     */
+    public int deleteByUserIds(UUID webinarId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(userIds);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            Object[] chunk = ids.subList(from, Math.min(from + chunkSize, ids.size())).toArray();
+            deleted += jdbcTemplate.update(DELETE_SQL, ps -> {
+                ps.setObject(1, webinarId);
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", chunk));
+            });
+        }
+
+        log.debug("Bulk deleted {} participants from webinar {}", deleted, webinarId);
+        return deleted;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * 15 + INSERT_SUFFIX.length())
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append("(?,?,?,?)");
+        }
+        return sql.append(INSERT_SUFFIX).toString();
+    }
+}
@@ -1,9 +1,13 @@
 package uz.consortgroup.webinar_service.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
 import uz.consortgroup.webinar_service.entity.WebinarParticipant;
 
 import java.util.List;
@@ -12,5 +16,12 @@ import java.util.UUID;
 @Repository
 public interface WebinarParticipantRepository extends JpaRepository<WebinarParticipant, UUID> {
     @Query("SELECT p FROM WebinarParticipant p WHERE p.webinar.id = :webinarId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = WebinarSecondLevelCache.PARTICIPANTS_QUERY_REGION)
+    })
     List<WebinarParticipant> findByWebinarId(@Param("webinarId") UUID webinarId);
+
+    @Query("SELECT p.userId FROM WebinarParticipant p WHERE p.webinar.id = :webinarId")
+    List<UUID> findUserIdsByWebinarId(@Param("webinarId") UUID webinarId);
 }
@@ -0,0 +1,81 @@
+package uz.consortgroup.webinar_service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Caller headers forwarded on service-to-service calls. Inside a request they are read from it;
+ * background work that outlives the request runs with a snapshot taken via {@link #capture()}.
+ */
+public final class PropagatedHeaders {
+
+    public static final List<String> NAMES = List.of(
+            HttpHeaders.AUTHORIZATION,
+            AuthHeaders.USER_ID,
+            "X-User-Email",
+            AuthHeaders.ROLES,
+            AuthHeaders.AUTH_VALIDATED,
+            AuthHeaders.REQUEST_ID
+    );
+
+    private static final ThreadLocal<Map<String, String>> DETACHED = new ThreadLocal<>();
+
+    private PropagatedHeaders() {}
+
+    /**
+     * Headers of the current request, or the snapshot the current thread runs with; empty when neither exists.
+     */
+    public static Map<String, String> capture() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            Map<String, String> detached = DETACHED.get();
+            return detached != null ? detached : Map.of();
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : NAMES) {
+            String value = request.getHeader(name);
+            if (value != null && !value.isBlank()) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    public static void runWith(Map<String, String> headers, Runnable task) {
+        Map<String, String> previous = DETACHED.get();
+        DETACHED.set(headers);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static <T> T callWith(Map<String, String> headers, Callable<T> task) throws Exception {
+        Map<String, String> previous = DETACHED.get();
+        DETACHED.set(headers);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(Map<String, String> previous) {
+        if (previous != null) {
+            DETACHED.set(previous);
+        } else {
+            DETACHED.remove();
+        }
+    }
+}
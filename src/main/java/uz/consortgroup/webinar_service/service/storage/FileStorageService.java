@@ -2,7 +2,10 @@ package uz.consortgroup.webinar_service.service.storage;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+
 public interface FileStorageService {
     String store(MultipartFile file);
     void delete(String fileUrl);
+    Path resolve(String filename);
 }
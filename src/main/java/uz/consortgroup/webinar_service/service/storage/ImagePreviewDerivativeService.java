@@ -0,0 +1,160 @@
+package uz.consortgroup.webinar_service.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import uz.consortgroup.webinar_service.config.properties.StorageProperties;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds width-bounded variants of uploaded previews in the background so list pages can
+ * load card-sized images instead of the original upload. Variants keep the source format
+ * (PNG stays PNG for transparency, everything else becomes JPEG). Callers record the card
+ * variant when generation completes, so serving a list never touches the filesystem.
+ */
+@Slf4j
+@Service
+public class ImagePreviewDerivativeService implements PreviewDerivativeService {
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolTaskExecutor executor;
+    private final StorageProperties.DerivativeProperties props;
+    private final String previewBaseUrl;
+
+    public ImagePreviewDerivativeService(FileStorageService fileStorageService,
+                                         @Qualifier("previewDerivativeExecutor") ThreadPoolTaskExecutor executor,
+                                         StorageProperties storageProperties,
+                                         @Value("${app.preview.base-url}") String previewBaseUrl) {
+        this.fileStorageService = fileStorageService;
+        this.executor = executor;
+        this.props = storageProperties.getImage().getDerivatives();
+        this.previewBaseUrl = previewBaseUrl;
+    }
+
+    @Override
+    public CompletableFuture<String> generateAsync(String filename) {
+        if (!props.isEnabled() || filename == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<String> card = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                card.complete(generate(filename));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to generate derivatives for {}: {}", filename, e.getMessage());
+                card.complete(null);
+            }
+        });
+        return card;
+    }
+
+    @Override
+    public String cardPreviewUrl(String cardPreviewFilename, String fallbackUrl) {
+        return props.isEnabled() && cardPreviewFilename != null ? previewBaseUrl + cardPreviewFilename : fallbackUrl;
+    }
+
+    /**
+     * Returns the card variant's filename, which may predate this call when the same content was
+     * uploaded before, or {@code null} when the source is unreadable or no wider than the card.
+     */
+    String generate(String filename) throws IOException {
+        Path source = fileStorageService.resolve(filename);
+        int maxWidth = props.getWidths().stream().mapToInt(Integer::intValue).max().orElse(props.getCardWidth());
+
+        BufferedImage image = readSubsampled(source, maxWidth);
+        if (image == null) {
+            log.warn("Unsupported image format, no derivatives for {}", filename);
+            return null;
+        }
+
+        String primary = primaryFormat(filename);
+        for (int width : props.getWidths()) {
+            if (width >= image.getWidth()) {
+                continue;
+            }
+            BufferedImage scaled = scale(image, width, "png".equals(primary));
+            write(scaled, primary, PreviewDerivativeService.derivativeName(filename, width, primary));
+        }
+        log.info("Generated derivatives for {}", filename);
+
+        String card = PreviewDerivativeService.derivativeName(filename, props.getCardWidth(), primary);
+        return Files.exists(fileStorageService.resolve(card)) ? card : null;
+    }
+
+    /**
+     * Decodes only every n-th pixel when the source is far larger than the biggest variant,
+     * which keeps memory bounded for multi-megapixel uploads.
+     */
+    private static BufferedImage readSubsampled(Path source, int maxWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, reader.getWidth(0) / (maxWidth * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, boolean keepAlpha) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, String format, String name) throws IOException {
+        Path target = fileStorageService.resolve(name);
+        if (Files.exists(target)) {
+            return;
+        }
+        Path temp = Files.createTempFile(target.getParent(), "derivative-", ".tmp");
+        try {
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                log.warn("No ImageIO writer for {}", format);
+                return;
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String primaryFormat(String filename) {
+        return filename.toLowerCase(Locale.ROOT).endsWith(".png") ? "png" : "jpg";
+    }
+}
@@ -1,5 +1,6 @@
 package uz.consortgroup.webinar_service.service.storage;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -7,28 +8,76 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import uz.consortgroup.webinar_service.config.properties.StorageProperties;
 import uz.consortgroup.webinar_service.exception.FileStorageException;
+import uz.consortgroup.webinar_service.exception.ResourceNotFoundException;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LocalFileStorageService implements FileStorageService {
 
+    private static final String REFS_DIR = ".refs";
+    private static final int LOCK_STRIPES = 64;
+    private static final ReentrantLock[] LOCKS = createLocks();
+
     private final StorageProperties props;
+    private final WebinarMetrics metrics;
 
     @Override
     public String store(MultipartFile file) {
+        String mode = props.isContentAddressed() ? "content-addressed" : "unique";
+        Timer.Sample sample = metrics.start();
+        String outcome = WebinarMetrics.ERROR;
+        try {
+            String filename = doStore(file);
+            outcome = WebinarMetrics.SUCCESS;
+            return filename;
+        } finally {
+            metrics.storageStored(sample, mode, outcome, file.getSize());
+        }
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        Timer.Sample sample = metrics.start();
+        String outcome = WebinarMetrics.ERROR;
+        try {
+            outcome = doDelete(fileUrl);
+        } finally {
+            metrics.storageDeleted(sample, outcome);
+        }
+    }
+
+    private String doStore(MultipartFile file) {
         String originalFilename = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
         String extension = getFileExtension(originalFilename);
+        if (props.isContentAddressed()) {
+            return storeContentAddressed(file, extension.toLowerCase(Locale.ROOT));
+        }
+
         String filename = UUID.randomUUID() + extension;
 
-        Path targetPath = props.getBaseDir().resolve("webinars").resolve(filename);
+        Path targetPath = storageDir().resolve(filename);
         try {
             Files.createDirectories(targetPath.getParent());
             Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
@@ -41,18 +90,174 @@ public class LocalFileStorageService implements FileStorageService {
         return filename;
     }
 
-    @Override
-    public void delete(String fileUrl) {
+    /**
+     * @return {@code released} if other references keep the file, {@code deleted} otherwise
+     */
+    private String doDelete(String fileUrl) {
         try {
-            Path path = props.getBaseDir().resolve("webinars").resolve(fileUrl);
-            Files.deleteIfExists(path);
-            log.info("Deleted file {}", path);
+            Path path = storageDir().resolve(fileUrl);
+            Path refs = refsPath(fileUrl);
+            return withRefsLock(fileUrl, () -> {
+                if (Files.exists(refs)) {
+                    long remaining = readRefCount(refs) - 1;
+                    if (remaining > 0) {
+                        writeRefCount(refs, remaining);
+                        log.info("Released reference to {}, {} remaining", path, remaining);
+                        return "released";
+                    }
+                }
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(refs);
+                deleteDerivatives(fileUrl);
+                log.info("Deleted file {}", path);
+                return "deleted";
+            });
         } catch (IOException e) {
             log.error("Failed to store file", e);
             throw new FileStorageException("Failed to delete file", e);
         }
     }
 
+    @Override
+    public Path resolve(String filename) {
+        Path dir = storageDir().toAbsolutePath().normalize();
+        Path path = dir.resolve(filename).normalize();
+        if (!dir.equals(path.getParent())) {
+            throw new ResourceNotFoundException("File not found: " + filename);
+        }
+        return path;
+    }
+
+    /**
+     * Streams the upload into a temp file while hashing it, then moves it to {@code <sha256><ext>}.
+     * An identical blob that already exists is reused and only its reference count grows.
+     */
+    private String storeContentAddressed(MultipartFile file, String extension) {
+        Path dir = storageDir();
+        Path temp = null;
+        try {
+            Files.createDirectories(dir.resolve(REFS_DIR));
+            temp = Files.createTempFile(dir, "upload-", ".tmp");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String filename = HexFormat.of().formatHex(digest.digest()) + extension;
+            Path target = dir.resolve(filename);
+
+            Path upload = temp;
+            boolean moved = withRefsLock(filename, () -> {
+                boolean stored = false;
+                if (Files.exists(target)) {
+                    metrics.storageDeduplicated();
+                    log.info("Deduplicated upload into existing file {}", target);
+                } else {
+                    try {
+                        Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+                        stored = true;
+                        log.info("Stored file to {}", target);
+                    } catch (FileAlreadyExistsException e) {
+                        metrics.storageDeduplicated();
+                        log.info("Deduplicated upload into concurrently stored file {}", target);
+                    }
+                }
+                Path refs = refsPath(filename);
+                writeRefCount(refs, readRefCount(refs) + 1);
+                return stored;
+            });
+            if (moved) {
+                temp = null;
+            }
+            return filename;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("Failed to store file", e);
+            throw new FileStorageException("Failed to store file", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private void deleteDerivatives(String filename) throws IOException {
+        Path dir = storageDir();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        int dot = filename.lastIndexOf('.');
+        String stem = dot >= 0 ? filename.substring(0, dot) : filename;
+        try (DirectoryStream<Path> derivatives = Files.newDirectoryStream(dir, stem + "-w*")) {
+            for (Path derivative : derivatives) {
+                Files.deleteIfExists(derivative);
+            }
+        }
+    }
+
+    private Path storageDir() {
+        return props.getBaseDir().resolve("webinars");
+    }
+
+    private Path refsPath(String filename) {
+        return storageDir().resolve(REFS_DIR).resolve(filename);
+    }
+
+    private static long readRefCount(Path refs) throws IOException {
+        if (!Files.exists(refs)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(refs, StandardCharsets.US_ASCII).trim());
+    }
+
+    private static void writeRefCount(Path refs, long count) throws IOException {
+        Path temp = Files.createTempFile(refs.getParent(), "refs-", ".tmp");
+        Files.writeString(temp, Long.toString(count), StandardCharsets.US_ASCII);
+        Files.move(temp, refs, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Runs a reference-count update under a stripe lock shared by every replica mounting the same
+     * storage: the in-JVM stripe serializes local threads (a JVM may hold only one {@link FileLock}
+     * per file), and an OS lock on the stripe's file in {@code .refs} serializes other processes.
+     * Stripe files are never deleted, so a waiter can't end up holding a lock on an unlinked file.
+     */
+    private <T> T withRefsLock(String filename, RefsUpdate<T> update) throws IOException {
+        int stripe = Math.floorMod(filename.hashCode(), LOCK_STRIPES);
+        Path refsDir = Files.createDirectories(storageDir().resolve(REFS_DIR));
+        ReentrantLock lock = LOCKS[stripe];
+        lock.lock();
+        try (FileChannel channel = FileChannel.open(refsDir.resolve(".lock-" + stripe),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            return update.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RefsUpdate<T> {
+        T run() throws IOException;
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", path, e);
+        }
+    }
+
     private String getFileExtension(String filename) {
         int dot = filename.lastIndexOf('.');
         return (dot >= 0) ? filename.substring(dot) : "";
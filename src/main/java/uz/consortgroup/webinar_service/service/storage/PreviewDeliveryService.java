@@ -0,0 +1,10 @@
+package uz.consortgroup.webinar_service.service.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+public interface PreviewDeliveryService {
+    void serve(String filename, HttpServletRequest request, HttpServletResponse response) throws IOException;
+}
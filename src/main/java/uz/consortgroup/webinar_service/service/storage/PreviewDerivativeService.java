@@ -0,0 +1,18 @@
+package uz.consortgroup.webinar_service.service.storage;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PreviewDerivativeService {
+    /**
+     * Completes with the card-width variant's filename once generation finishes, or {@code null}
+     * when the source gets no card variant.
+     */
+    CompletableFuture<String> generateAsync(String filename);
+    String cardPreviewUrl(String cardPreviewFilename, String fallbackUrl);
+
+    static String derivativeName(String filename, int width, String extension) {
+        int dot = filename.lastIndexOf('.');
+        String stem = dot >= 0 ? filename.substring(0, dot) : filename;
+        return stem + "-w" + width + "." + extension;
+    }
+}
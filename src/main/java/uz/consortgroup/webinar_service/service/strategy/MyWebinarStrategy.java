@@ -0,0 +1,35 @@
+package uz.consortgroup.webinar_service.service.strategy;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.webinar_service.entity.Webinar;
+import uz.consortgroup.webinar_service.specification.WebinarSpecification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Upcoming and ongoing webinars of the current user: the ones a mentor created, or the ones anybody
+ * else is invited to.
+ */
+@Component("mine")
+public class MyWebinarStrategy implements WebinarCategoryStrategy {
+
+    @Override
+    public Specification<Webinar> getSpecification(UUID userId, UserRole role) {
+        Specification<Webinar> spec = WebinarSpecification.notEnded(LocalDateTime.now());
+
+        if (role == UserRole.MENTOR) {
+            return spec.and(WebinarSpecification.createdBy(userId));
+        }
+
+        return spec.and(WebinarSpecification.hasParticipant(userId));
+    }
+
+    @Override
+    public Sort getSort() {
+        return Sort.by("startTime").ascending();
+    }
+}
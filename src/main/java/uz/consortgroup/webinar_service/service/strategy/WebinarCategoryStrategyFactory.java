@@ -9,14 +9,19 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WebinarCategoryStrategyFactory {
 
+    private static final String DEFAULT_CATEGORY = "planned";
+
     private final Map<String, WebinarCategoryStrategy> strategies;
 
-    public WebinarCategoryStrategy getStrategy(String category) {
-        if (category == null || category.isBlank()) {
-            return strategies.get("planned");
-        }
+    /**
+     * The strategy key a requested category resolves to; a missing category means {@code planned}.
+     */
+    public static String categoryKey(String category) {
+        return category == null || category.isBlank() ? DEFAULT_CATEGORY : category.toLowerCase();
+    }
 
-        WebinarCategoryStrategy strategy = strategies.get(category.toLowerCase());
+    public WebinarCategoryStrategy getStrategy(String category) {
+        WebinarCategoryStrategy strategy = strategies.get(categoryKey(category));
         if (strategy == null) {
             throw new IllegalArgumentException("Unsupported webinar category: " + category);
         }
@@ -0,0 +1,105 @@
+package uz.consortgroup.webinar_service.service.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.core.api.v1.dto.user.request.UserBulkSearchRequest;
+import uz.consortgroup.core.api.v1.dto.user.request.UserSearchRequest;
+import uz.consortgroup.core.api.v1.dto.user.response.UserBulkSearchResponse;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.concurrent.RequestContextPropagation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Splits large identifier lists into fixed-size bulk-search requests and runs them on virtual
+ * threads, at most {@code user.search.max-concurrency} at a time. Results are merged in chunk
+ * order; failed chunks are reported back instead of failing the whole search.
+ */
+@Slf4j
+@Component
+public class ChunkedUserSearch {
+
+    private final UserClient userClient;
+    private final int chunkSize;
+    private final int maxConcurrency;
+
+    public ChunkedUserSearch(UserClient userClient,
+                             @Value("${user.search.chunk-size:500}") int chunkSize,
+                             @Value("${user.search.max-concurrency:4}") int maxConcurrency) {
+        this.userClient = userClient;
+        this.chunkSize = chunkSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Result search(List<String> identifiers) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < identifiers.size(); from += chunkSize) {
+            chunks.add(identifiers.subList(from, Math.min(from + chunkSize, identifiers.size())));
+        }
+
+        List<Future<List<UserSearchResponse>>> futures = new ArrayList<>(chunks.size());
+        Semaphore permits = new Semaphore(maxConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<String> chunk : chunks) {
+                futures.add(executor.submit(RequestContextPropagation.wrap(() -> {
+                    permits.acquire();
+                    try {
+                        return searchChunk(chunk);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+            }
+        }
+
+        Map<UUID, UserSearchResponse> users = new LinkedHashMap<>();
+        List<String> failedIdentifiers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            try {
+                futures.get(i).get().forEach(user -> users.putIfAbsent(user.getUserId(), user));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("User bulk search chunk {}/{} ({} identifiers) failed: {}", i + 1, chunks.size(), chunks.get(i).size(), cause.getMessage());
+                failedIdentifiers.addAll(chunks.get(i));
+                errors.add("chunk " + (i + 1) + ": " + cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIdentifiers.addAll(chunks.get(i));
+                errors.add("chunk " + (i + 1) + ": interrupted");
+            }
+        }
+
+        log.info("User bulk search: {} identifiers in {} chunks, {} users found, {} chunks failed",
+                identifiers.size(), chunks.size(), users.size(), errors.size());
+        return new Result(new ArrayList<>(users.values()), failedIdentifiers, errors);
+    }
+
+    private List<UserSearchResponse> searchChunk(List<String> chunk) {
+        List<UserSearchRequest> queries = chunk.stream()
+                .map(id -> UserSearchRequest.builder().query(id).build())
+                .toList();
+
+        UserBulkSearchResponse response = userClient.searchUsersBulk(UserBulkSearchRequest.builder()
+                .queries(queries)
+                .build());
+        return response == null || response.getUsers() == null ? List.of() : response.getUsers();
+    }
+
+    public record Result(List<UserSearchResponse> users, List<String> failedIdentifiers, List<String> errors) {
+        public boolean isComplete() {
+            return failedIdentifiers.isEmpty();
+        }
+    }
+}
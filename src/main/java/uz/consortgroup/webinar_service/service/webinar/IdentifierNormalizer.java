@@ -0,0 +1,26 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of participant identifiers: emails are trimmed and case-folded,
+ * PINFLs keep only their digits, so "A@x.uz " and "a@x.uz" or "1234 5678-901234" and
+ * "12345678901234" compare equal.
+ */
+public final class IdentifierNormalizer {
+
+    private static final Pattern PINFL_SEPARATORS = Pattern.compile("[\\s-]");
+
+    private IdentifierNormalizer() {}
+
+    public static String normalize(String identifier) {
+        if (identifier == null) return null;
+        String trimmed = identifier.strip();
+        if (trimmed.indexOf('@') >= 0) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+        String digits = PINFL_SEPARATORS.matcher(trimmed).replaceAll("");
+        return digits.isEmpty() ? null : digits;
+    }
+}
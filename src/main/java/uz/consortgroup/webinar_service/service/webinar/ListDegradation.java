@@ -0,0 +1,35 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parts of the current response that were left out because a dependency failed. Kept as a request attribute so the
+ * controller can flag the response and keep it out of client caches; a no-op outside a request.
+ */
+public final class ListDegradation {
+
+    public static final String TUTORS = "tutors";
+
+    private static final String ATTRIBUTE = ListDegradation.class.getName();
+
+    private ListDegradation() {}
+
+    public static void mark(String component) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Set<String> components = components(attributes);
+            components.add(component);
+            attributes.setAttribute(ATTRIBUTE, components, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Set<String> components(RequestAttributes attributes) {
+        Object components = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return components instanceof Set<?> set ? (Set<String>) set : new LinkedHashSet<>();
+    }
+}
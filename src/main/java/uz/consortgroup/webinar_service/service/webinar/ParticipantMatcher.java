@@ -0,0 +1,83 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Pure identifier-to-participant matching used by {@link ParticipantResolver} and
+ * {@link WebinarParticipantServiceImpl}, kept free of repositories so it can be benchmarked in isolation.
+ * Every step is a single pass over hash maps.
+ */
+public final class ParticipantMatcher {
+
+    private ParticipantMatcher() {}
+
+    /**
+     * Trimmed, non-blank identifiers in first-seen order, keyed by {@link IdentifierNormalizer normalized}
+     * form so that {@code A@X.uz} and {@code a@x.uz}, or spaced and unspaced PINFLs, count once.
+     */
+    public static Map<String, String> indexByKey(Collection<String> identifiers) {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        for (String identifier : identifiers) {
+            String key = IdentifierNormalizer.normalize(identifier);
+            if (key != null) {
+                byKey.putIfAbsent(key, identifier.strip());
+            }
+        }
+        return byKey;
+    }
+
+    /**
+     * Sorts each indexed identifier into exactly one bucket of the result.
+     *
+     * @param usersByKey    users matched per normalized key
+     * @param ambiguousKeys normalized keys matched by more than one user
+     */
+    public static ParticipantResolution classify(Map<String, String> identifiersByKey,
+                                                 Map<String, UserSearchResponse> usersByKey,
+                                                 Set<String> ambiguousKeys) {
+        Map<UUID, String> resolved = new LinkedHashMap<>();
+        List<String> ambiguous = new ArrayList<>();
+        List<String> guests = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+
+        identifiersByKey.forEach((key, identifier) -> {
+            UserSearchResponse user = usersByKey.get(key);
+            if (user != null) {
+                if (user.getRole() == UserRole.GUEST_USER) {
+                    guests.add(identifier);
+                } else {
+                    resolved.putIfAbsent(user.getUserId(), identifier);
+                }
+            } else if (ambiguousKeys.contains(key)) {
+                ambiguous.add(identifier);
+            } else {
+                unresolved.add(identifier);
+            }
+        });
+        return new ParticipantResolution(resolved, ambiguous, guests, unresolved);
+    }
+
+    /**
+     * Resolved users that are not already among {@code existingUserIds}, in roster order.
+     */
+    public static Map<UUID, String> newParticipants(Map<UUID, String> resolved, Collection<UUID> existingUserIds) {
+        Set<UUID> existing = existingUserIds instanceof Set<UUID> set ? set : new HashSet<>(existingUserIds);
+        Map<UUID, String> newUsers = new LinkedHashMap<>();
+        resolved.forEach((userId, identifier) -> {
+            if (!existing.contains(userId)) {
+                newUsers.put(userId, identifier);
+            }
+        });
+        return newUsers;
+    }
+}
@@ -0,0 +1,23 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of resolving a roster of identifiers. Every distinct identifier ends up in exactly one bucket;
+ * identifiers that normalize to the same key count once, under the first spelling seen.
+ *
+ * @param resolved   non-guest users in roster order, each mapped to the first identifier that matched it
+ * @param ambiguous  identifiers matched by more than one user
+ * @param guests     identifiers of guest users, which cannot participate
+ * @param unresolved identifiers no user matched
+ */
+public record ParticipantResolution(
+        Map<UUID, String> resolved,
+        List<String> ambiguous,
+        List<String> guests,
+        List<String> unresolved
+) {
+    public static final ParticipantResolution EMPTY = new ParticipantResolution(Map.of(), List.of(), List.of(), List.of());
+}
@@ -0,0 +1,35 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.webinar_service.cache.UserResolutionCache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Resolves participant identifiers (emails or PINFLs) to users. Identifiers are indexed once by their
+ * normalized key, looked up in bulk through {@link UserResolutionCache} and classified in a single pass.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantResolver {
+
+    private final UserResolutionCache userResolutionCache;
+
+    public ParticipantResolution resolve(Collection<String> identifiers) {
+        Map<String, String> identifiersByKey = ParticipantMatcher.indexByKey(identifiers);
+        if (identifiersByKey.isEmpty()) {
+            return ParticipantResolution.EMPTY;
+        }
+
+        UserResolutionCache.Lookup lookup = userResolutionCache.lookup(identifiersByKey.values());
+        ParticipantResolution resolution = ParticipantMatcher.classify(identifiersByKey, lookup.users(), lookup.ambiguous());
+        log.info("Resolved {} of {} identifiers: {} ambiguous, {} guests, {} unresolved",
+                resolution.resolved().size(), identifiersByKey.size(), resolution.ambiguous().size(),
+                resolution.guests().size(), resolution.unresolved().size());
+        return resolution;
+    }
+}
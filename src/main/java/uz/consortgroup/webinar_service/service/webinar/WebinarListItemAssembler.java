@@ -0,0 +1,72 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uz.consortgroup.core.api.v1.dto.user.response.UserShortInfoResponseDto;
+import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListItemResponseDto;
+import uz.consortgroup.webinar_service.cache.TutorInfoCache;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+import uz.consortgroup.webinar_service.repository.WebinarListRow;
+import uz.consortgroup.webinar_service.service.storage.PreviewDerivativeService;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds list cards for a page of webinars: one tutor lookup for the whole page plus the card-sized preview.
+ * If the user service is unavailable the page is still returned, with tutors taken from cache where possible
+ * and omitted otherwise.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebinarListItemAssembler {
+
+    private final TutorInfoCache tutorInfoCache;
+    private final PreviewDerivativeService previewDerivativeService;
+    private final WebinarMetrics metrics;
+
+    public List<WebinarListItemResponseDto> toListItems(List<WebinarListRow> content) {
+        Map<UUID, UserShortInfoResponseDto> userMap = Collections.emptyMap();
+        if (!content.isEmpty()) {
+            Set<UUID> tutorIds = content.stream()
+                    .map(WebinarListRow::createdBy)
+                    .collect(Collectors.toSet());
+
+            userMap = tutors(tutorIds);
+        }
+
+        final Map<UUID, UserShortInfoResponseDto> finalUserMap = userMap;
+
+        return content.stream()
+                .map(row -> {
+                    UserShortInfoResponseDto tutor = finalUserMap.get(row.createdBy());
+                    return WebinarListItemResponseDto.builder()
+                            .id(row.id())
+                            .title(row.title())
+                            .startTime(row.startTime())
+                            .endTime(row.endTime())
+                            .platformUrl(row.platformUrl())
+                            .previewUrl(previewDerivativeService.cardPreviewUrl(row.cardPreviewFilename(), row.previewUrl()))
+                            .tutors(tutor == null ? List.of() : List.of(tutor))
+                            .build();
+                })
+                .toList();
+    }
+
+    private Map<UUID, UserShortInfoResponseDto> tutors(Set<UUID> tutorIds) {
+        try {
+            return tutorInfoCache.getShortInfo(tutorIds);
+        } catch (RuntimeException e) {
+            log.warn("Tutor info unavailable, serving webinar list without it: {}", e.toString());
+            metrics.listDegraded(ListDegradation.TUTORS);
+            ListDegradation.mark(ListDegradation.TUTORS);
+            return tutorInfoCache.getCachedShortInfo(tutorIds);
+        }
+    }
+}
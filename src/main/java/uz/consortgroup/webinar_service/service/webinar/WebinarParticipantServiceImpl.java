@@ -1,23 +1,22 @@
 package uz.consortgroup.webinar_service.service.webinar;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
-import uz.consortgroup.core.api.v1.dto.user.request.UserBulkSearchRequest;
-import uz.consortgroup.core.api.v1.dto.user.request.UserSearchRequest;
-import uz.consortgroup.core.api.v1.dto.user.response.UserBulkSearchResponse;
-import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
-import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.cache.CacheInvalidationBus;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
 import uz.consortgroup.webinar_service.entity.Webinar;
 import uz.consortgroup.webinar_service.entity.WebinarParticipant;
+import uz.consortgroup.webinar_service.exception.AmbiguousIdentifierException;
 import uz.consortgroup.webinar_service.exception.UserNotFoundException;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+import uz.consortgroup.webinar_service.repository.WebinarParticipantBulkRepository;
 import uz.consortgroup.webinar_service.repository.WebinarParticipantRepository;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,152 +24,130 @@ import java.util.stream.Collectors;
 public class WebinarParticipantServiceImpl implements WebinarParticipantService {
 
     private final WebinarParticipantRepository webinarParticipantRepository;
-    private final UserClient userClient;
+    private final WebinarParticipantBulkRepository webinarParticipantBulkRepository;
+    private final ParticipantResolver participantResolver;
+    private final WebinarMetrics metrics;
+    private final WebinarSecondLevelCache webinarSecondLevelCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Override
     public Map<UUID, String> addParticipants(Webinar webinar, List<String> identifiers) {
-        log.info("Adding participants to webinar {} by {} identifiers (email or pinfl)", webinar.getId(), identifiers.size());
-
-        List<String> distinct = identifiers.stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .distinct()
-                .toList();
+        Timer.Sample sample = metrics.start();
+        String outcome = WebinarMetrics.ERROR;
+        try {
+            Map<UUID, String> added = doAddParticipants(webinar, identifiers);
+            outcome = WebinarMetrics.SUCCESS;
+            return added;
+        } finally {
+            metrics.participantsProcessed(sample, "add", outcome, identifiers.size());
+        }
+    }
 
-        if (distinct.isEmpty()) {
-            log.info("No valid identifiers provided.");
-            return Map.of();
+    @Override
+    @Transactional
+    public Map<UUID, String> updateParticipants(Webinar webinar, List<String> identifiers) {
+        Timer.Sample sample = metrics.start();
+        String outcome = WebinarMetrics.ERROR;
+        try {
+            Map<UUID, String> target = doUpdateParticipants(webinar, identifiers);
+            outcome = WebinarMetrics.SUCCESS;
+            return target;
+        } finally {
+            metrics.participantsProcessed(sample, "update", outcome, identifiers == null ? 0 : identifiers.size());
         }
+    }
 
-        List<UserSearchRequest> queries = distinct.stream()
-                .map(id -> UserSearchRequest.builder().query(id).build())
-                .toList();
+    private Map<UUID, String> doAddParticipants(Webinar webinar, List<String> identifiers) {
+        log.info("Adding participants to webinar {} by {} identifiers (email or pinfl)", webinar.getId(), identifiers.size());
 
-        UserBulkSearchRequest request = UserBulkSearchRequest.builder()
-                .queries(queries)
-                .build();
+        ParticipantResolution resolution = participantResolver.resolve(identifiers);
 
-        UserBulkSearchResponse bulk = userClient.searchUsersBulk(request);
-        List<UserSearchResponse> users = bulk.getUsers();
-        log.info("Found {} matching users from user service", users.size());
+        if (resolution.resolved().isEmpty()) {
+            log.info("No resolvable participants among the provided identifiers.");
+            return Map.of();
+        }
 
-        List<UserSearchResponse> filtered = users.stream()
-                .filter(user -> user.getRole() != UserRole.GUEST_USER)
-                .toList();
+        Map<UUID, String> newUsers = ParticipantMatcher.newParticipants(
+                resolution.resolved(), new HashSet<>(webinarParticipantRepository.findUserIdsByWebinarId(webinar.getId())));
 
-        Map<UUID, String> idToIdentifier = filtered.stream()
-                .collect(Collectors.toMap(
-                        UserSearchResponse::getUserId,
-                        u -> {
-                            String email = u.getEmail();
-                            String pinfl = u.getPinfl();
-                            if (email != null && distinct.contains(email)) return email;
-                            if (pinfl != null && distinct.contains(pinfl)) return pinfl;
-                            return email != null ? email : pinfl;
-                        },
-                        (a, b) -> a
-                ));
-
-        Set<UUID> existingUserIds = webinarParticipantRepository.findByWebinarId(webinar.getId()).stream()
-                .map(WebinarParticipant::getUserId)
-                .collect(Collectors.toSet());
-
-        Set<UUID> newUserIds = new HashSet<>(idToIdentifier.keySet());
-        newUserIds.removeAll(existingUserIds);
-
-        if (newUserIds.isEmpty()) {
+        if (newUsers.isEmpty()) {
             log.info("No new participants to add.");
             return Map.of();
         }
 
-        List<WebinarParticipant> participants = newUserIds.stream()
-                .map(userId -> WebinarParticipant.builder()
-                        .webinar(webinar)
-                        .userId(userId)
-                        .createdAt(LocalDateTime.now())
-                        .build())
-                .toList();
-
-        webinarParticipantRepository.saveAll(participants);
-        log.info("Successfully added {} new participants", participants.size());
+        // the webinar row may still be pending in the persistence context; it must exist before the JDBC insert
+        webinarParticipantRepository.flush();
+        int inserted = webinarParticipantBulkRepository.insertIgnoringDuplicates(webinar.getId(), newUsers.keySet(), LocalDateTime.now());
+        metrics.participantRowsWritten("add", "inserted", inserted);
+        rosterChanged(webinar.getId());
+        log.info("Successfully added {} new participants", inserted);
 
-        return idToIdentifier.entrySet().stream()
-                .filter(e -> newUserIds.contains(e.getKey()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return newUsers;
     }
 
-    @Override
-    @Transactional
-    public Map<UUID, String> updateParticipants(Webinar webinar, List<String> identifiers) {
+    private Map<UUID, String> doUpdateParticipants(Webinar webinar, List<String> identifiers) {
         log.info("Updating participants for webinar: {}", webinar.getId());
 
-        List<WebinarParticipant> existing = webinarParticipantRepository.findByWebinarId(webinar.getId());
-        if (!existing.isEmpty()) {
-            webinarParticipantRepository.deleteAll(existing);
-            webinarParticipantRepository.flush();
-            log.debug("Deleted {} existing participants", existing.size());
-        }
+        ParticipantResolution resolution = identifiers == null
+                ? ParticipantResolution.EMPTY
+                : participantResolver.resolve(identifiers);
 
-        List<String> distinct = identifiers == null ? List.of() :
-                identifiers.stream()
-                        .filter(Objects::nonNull)
-                        .map(String::trim)
-                        .filter(s -> !s.isEmpty())
-                        .distinct()
-                        .toList();
+        if (!resolution.unresolved().isEmpty()) {
+            throw new UserNotFoundException("User not found by identifier: " + resolution.unresolved().getFirst());
+        }
+        if (!resolution.ambiguous().isEmpty()) {
+            throw new AmbiguousIdentifierException(resolution.ambiguous());
+        }
+        if (!resolution.guests().isEmpty()) {
+            log.info("Skipping {} guest users for webinar {}", resolution.guests().size(), webinar.getId());
+        }
 
-        if (distinct.isEmpty()) {
+        Map<UUID, String> idToIdentifier = resolution.resolved();
+        if (idToIdentifier.isEmpty()) {
             log.warn("No valid identifiers provided for webinar: {}", webinar.getId());
-            return Map.of();
         }
+        Set<UUID> target = idToIdentifier.keySet();
 
-        List<UserSearchRequest> queries = distinct.stream()
-                .map(id -> UserSearchRequest.builder().query(id).build())
-                .toList();
+        replaceParticipants(webinar, target);
 
-        UserBulkSearchRequest request = UserBulkSearchRequest.builder()
-                .queries(queries)
-                .build();
-
-        UserBulkSearchResponse response = userClient.searchUsersBulk(request);
-
-        Map<String, UUID> identifierToUserId = response.getUsers().stream()
-                .collect(Collectors.toMap(
-                        user -> {
-                            String key = user.getEmail() != null && distinct.contains(user.getEmail())
-                                    ? user.getEmail()
-                                    : user.getPinfl();
-                            if (key == null) {
-                                throw new UserNotFoundException("User does not contain a valid identifier: " + user.getUserId());
-                            }
-                            return key;
-                        },
-                        UserSearchResponse::getUserId,
-                        (a, b) -> a
-                ));
-
-        Map<UUID, String> idToIdentifier = identifierToUserId.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey, (a, b) -> a));
-
-        List<WebinarParticipant> toSave = distinct.stream()
-                .map(identifier -> {
-                    UUID userId = identifierToUserId.get(identifier);
-                    if (userId == null) {
-                        throw new UserNotFoundException("User not found by identifier: " + identifier);
-                    }
-                    return WebinarParticipant.builder()
-                            .webinar(webinar)
-                            .userId(userId)
-                            .createdAt(LocalDateTime.now())
-                            .build();
-                })
+        return idToIdentifier;
+    }
+
+    /**
+     * Brings the stored roster to {@code target} by deleting and inserting only the difference,
+     * so unchanged participants keep their rows and original {@code created_at}.
+     */
+    private void replaceParticipants(Webinar webinar, Set<UUID> target) {
+        Set<UUID> current = new HashSet<>(webinarParticipantRepository.findUserIdsByWebinarId(webinar.getId()));
+
+        List<UUID> toDelete = current.stream()
+                .filter(userId -> !target.contains(userId))
+                .toList();
+        List<UUID> toInsert = target.stream()
+                .filter(userId -> !current.contains(userId))
                 .toList();
 
-        webinarParticipantRepository.saveAll(toSave);
-        log.info("Added {} participants to webinar: {}", toSave.size(), webinar.getId());
+        if (toDelete.isEmpty() && toInsert.isEmpty()) {
+            log.info("Participants of webinar {} are unchanged ({} users)", webinar.getId(), current.size());
+            return;
+        }
 
-        return idToIdentifier;
+        webinarParticipantRepository.flush();
+        int deleted = webinarParticipantBulkRepository.deleteByUserIds(webinar.getId(), toDelete);
+        int inserted = webinarParticipantBulkRepository.insertIgnoringDuplicates(webinar.getId(), toInsert, LocalDateTime.now());
+        metrics.participantRowsWritten("update", "inserted", inserted);
+        metrics.participantRowsWritten("update", "deleted", deleted);
+        rosterChanged(webinar.getId());
+        log.info("Updated participants of webinar {}: {} added, {} removed, {} unchanged",
+                webinar.getId(), inserted, deleted, current.size() - toDelete.size());
+    }
+
+    /**
+     * Bulk writes bypass Hibernate, so the cached roster is evicted here and on the other nodes.
+     */
+    private void rosterChanged(UUID webinarId) {
+        webinarSecondLevelCache.evictParticipants(webinarId);
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.WEBINAR, List.of(webinarId));
     }
 
     @Override
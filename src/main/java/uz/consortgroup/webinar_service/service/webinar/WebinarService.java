@@ -6,6 +6,7 @@ import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarCreateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarUpdateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListPageResponse;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarResponseDto;
+import uz.consortgroup.webinar_service.pagination.WebinarListSlice;
 
 import java.util.UUID;
 
@@ -13,5 +14,7 @@ public interface WebinarService {
     WebinarResponseDto createWebinar(WebinarCreateRequestDto dto, MultipartFile file);
     WebinarResponseDto updateWebinar(WebinarUpdateRequestDto dto, MultipartFile file);
     void deleteWebinar(UUID webinarId);
-    WebinarListPageResponse getWebinars(String category, String lang, Pageable pageable);
+    WebinarListSlice getWebinars(String category, String lang, Pageable pageable);
+    WebinarListSlice getWebinarsByCursor(String category, String lang, String cursor, int size);
+    WebinarListPageResponse toListPage(WebinarListSlice slice);
 }
@@ -7,33 +7,46 @@ import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
-import uz.consortgroup.core.api.v1.dto.user.response.UserShortInfoResponseDto;
 import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarCreateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarUpdateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListItemResponseDto;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListPageResponse;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarResponseDto;
-import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.cache.CacheInvalidationBus;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
+import uz.consortgroup.webinar_service.concurrent.FailFastScope;
 import uz.consortgroup.webinar_service.entity.Webinar;
 import uz.consortgroup.webinar_service.entity.WebinarParticipant;
 import uz.consortgroup.webinar_service.exception.NotEnrolledParticipantsException;
 import uz.consortgroup.webinar_service.exception.WebinarNotFoundException;
 import uz.consortgroup.webinar_service.mapper.WebinarMapper;
+import uz.consortgroup.webinar_service.pagination.WebinarCursor;
+import uz.consortgroup.webinar_service.pagination.WebinarListSlice;
+import uz.consortgroup.webinar_service.repository.WebinarCardPreviewRepository;
+import uz.consortgroup.webinar_service.repository.WebinarListQueryRepository;
+import uz.consortgroup.webinar_service.repository.WebinarListRow;
 import uz.consortgroup.webinar_service.repository.WebinarRepository;
 import uz.consortgroup.webinar_service.security.AuthContext;
 import uz.consortgroup.webinar_service.service.storage.FileStorageService;
+import uz.consortgroup.webinar_service.service.storage.PreviewDerivativeService;
 import uz.consortgroup.webinar_service.service.strategy.WebinarCategoryStrategy;
 import uz.consortgroup.webinar_service.service.strategy.WebinarCategoryStrategyFactory;
+import uz.consortgroup.webinar_service.specification.WebinarSpecification;
 import uz.consortgroup.webinar_service.validator.CourseValidationServiceImpl;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RequiredArgsConstructor
 @Service
@@ -41,14 +54,19 @@ import java.util.stream.Collectors;
 public class WebinarServiceImpl implements WebinarService {
 
     private final WebinarRepository webinarRepository;
+    private final WebinarCardPreviewRepository webinarCardPreviewRepository;
+    private final WebinarListQueryRepository webinarListQueryRepository;
     private final WebinarMapper webinarMapper;
     private final FileStorageService fileStorageService;
+    private final PreviewDerivativeService previewDerivativeService;
     private final AuthContext authContext;
     private final WebinarParticipantService webinarParticipantService;
     private final CourseValidationServiceImpl courseValidationService;
     private final MessageSource messageSource;
-    private final UserClient userClient;
+    private final WebinarListItemAssembler webinarListItemAssembler;
     private final WebinarCategoryStrategyFactory webinarCategoryStrategyFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final WebinarSecondLevelCache webinarSecondLevelCache;
 
     @Value("${app.preview.base-url}")
     private String previewBaseUrl;
@@ -58,16 +76,15 @@ public class WebinarServiceImpl implements WebinarService {
     public WebinarResponseDto createWebinar(WebinarCreateRequestDto dto, MultipartFile file) {
         log.info("Starting webinar creation: {}", dto.getTitle());
 
-        courseValidationService.validateCourseExists(dto.getCourseId());
         UUID currentUserId = authContext.getCurrentUserId();
         UserRole currentRole = authContext.getCurrentUserRole();
-        courseValidationService.assertCourseVisibleForUser(dto.getCourseId(), currentUserId, currentRole);
+        String previewFilename = validateCourseAndStorePreview(dto.getCourseId(), currentUserId, currentRole, file);
 
-        String previewFilename = null;
         String previewUrl = null;
-        if (file != null && !file.isEmpty()) {
-            previewFilename = fileStorageService.store(file);
+        if (previewFilename != null) {
             previewUrl = previewBaseUrl + previewFilename;
+            releasePreviewAfterCompletion(null, previewFilename);
+            generateDerivativesAfterCommit(previewFilename);
         }
 
         Webinar webinar = buildWebinar(dto, previewFilename, previewUrl);
@@ -92,6 +109,7 @@ public class WebinarServiceImpl implements WebinarService {
         }
 
         webinar.setParticipants(webinarParticipantService.getParticipantsByWebinarId(webinar.getId()));
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.WEBINAR, List.of(webinar.getId()));
         return webinarMapper.toDto(webinar);
     }
 
@@ -103,24 +121,26 @@ public class WebinarServiceImpl implements WebinarService {
         Webinar webinar = webinarRepository.findById(dto.getId())
                 .orElseThrow(() -> new WebinarNotFoundException("Webinar not found with id: " + dto.getId()));
 
-        courseValidationService.validateCourseExists(dto.getCourseId());
         UUID currentUserId = authContext.getCurrentUserId();
         UserRole currentRole = authContext.getCurrentUserRole();
-        courseValidationService.assertCourseVisibleForUser(dto.getCourseId(), currentUserId, currentRole);
+        String storedFilename = validateCourseAndStorePreview(dto.getCourseId(), currentUserId, currentRole, file);
 
         String newFilename = webinar.getPreviewFilename();
         String newUrl = webinar.getPreviewUrl();
-        if (file != null && !file.isEmpty()) {
-            if (webinar.getPreviewFilename() != null) {
-                fileStorageService.delete(webinar.getPreviewFilename());
-            }
-            newFilename = fileStorageService.store(file);
+        if (storedFilename != null) {
+            releasePreviewAfterCompletion(webinar.getPreviewFilename(), storedFilename);
+            newFilename = storedFilename;
             newUrl = previewBaseUrl + newFilename;
+            generateDerivativesAfterCommit(newFilename);
         }
 
         updateWebinarFields(dto, webinar, newFilename, newUrl);
         webinar.setOnlyCourseParticipants(Boolean.TRUE.equals(dto.getOnlyCourseParticipants()));
         webinarRepository.save(webinar);
+        if (storedFilename != null) {
+            webinarCardPreviewRepository.clearCardPreview(webinar.getId());
+            webinarSecondLevelCache.evictWebinars(List.of(webinar.getId()));
+        }
 
         if (dto.getParticipants() != null) {
             Map<UUID, String> newParts = webinarParticipantService.updateParticipants(
@@ -143,19 +163,53 @@ public class WebinarServiceImpl implements WebinarService {
             webinar.getParticipants().addAll(webinarParticipantService.getParticipantsByWebinarId(webinar.getId()));
         }
 
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.WEBINAR, List.of(webinar.getId()));
         return webinarMapper.toDto(webinar);
     }
 
+    /**
+     * Runs the course existence check, the course access check and the preview write concurrently;
+     * the first failure cancels the other branches. The file copy can't be interrupted, so the store
+     * branch publishes its own result: {@link FailFastScope#close()} waits for it, and a preview that
+     * finished storing after another branch failed is released again.
+     *
+     * @return stored preview filename, or {@code null} when no file was uploaded
+     */
+    private String validateCourseAndStorePreview(UUID courseId, UUID userId, UserRole role, MultipartFile file) {
+        boolean hasPreview = file != null && !file.isEmpty();
+        AtomicReference<String> stored = new AtomicReference<>();
+        try (FailFastScope scope = new FailFastScope()) {
+            scope.fork(() -> {
+                courseValidationService.validateCourseExists(courseId);
+                return null;
+            });
+            scope.fork(() -> {
+                courseValidationService.assertCourseVisibleForUser(courseId, userId, role);
+                return null;
+            });
+            if (hasPreview) {
+                scope.fork(() -> {
+                    stored.set(fileStorageService.store(file));
+                    return null;
+                });
+            }
+            scope.join();
+            return stored.get();
+        } catch (RuntimeException | Error e) {
+            if (stored.get() != null) {
+                fileStorageService.delete(stored.get());
+            }
+            throw e;
+        }
+    }
+
     @Override
     @Transactional
     public void deleteWebinar(UUID webinarId) {
         Webinar webinar = webinarRepository.findById(webinarId)
                 .orElseThrow(() -> new WebinarNotFoundException("Webinar not found with id: " + webinarId));
 
-        if (webinar.getPreviewFilename() != null) {
-            fileStorageService.delete(webinar.getPreviewFilename());
-            log.info("Deleted preview: {}", webinar.getPreviewFilename());
-        }
+        releasePreviewAfterCompletion(webinar.getPreviewFilename(), null);
 
         if (webinar.getParticipants() != null && !webinar.getParticipants().isEmpty()) {
             webinar.getParticipants().clear();
@@ -163,11 +217,13 @@ public class WebinarServiceImpl implements WebinarService {
         log.info("Cleared participants for webinar: {}", webinarId);
 
         webinarRepository.delete(webinar);
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.WEBINAR, List.of(webinarId));
         log.info("Webinar deleted: {}", webinarId);
     }
 
     @Override
-    public WebinarListPageResponse getWebinars(String category, String lang, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public WebinarListSlice getWebinars(String category, String lang, Pageable pageable) {
         UUID userId = authContext.getCurrentUserId();
         UserRole role = authContext.getCurrentUserRole();
 
@@ -180,45 +236,166 @@ public class WebinarServiceImpl implements WebinarService {
                 strategy.getSort()
         );
 
-        Page<Webinar> page = webinarRepository.findAll(spec, sortedPageable);
+        Page<WebinarListRow> page = webinarListQueryRepository.findPage(spec, sortedPageable);
+        String etag = listETag(page.getContent(), userId, role, category, lang, "offset",
+                pageable.getPageNumber(), pageable.getPageSize(), page.getTotalElements());
+        return new WebinarListSlice(lang, page.getContent(), page.getTotalElements(), page.getTotalPages(), null, null, etag);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WebinarListSlice getWebinarsByCursor(String category, String lang, String cursor, int size) {
+        UUID userId = authContext.getCurrentUserId();
+        UserRole role = authContext.getCurrentUserRole();
+
+        WebinarCategoryStrategy strategy = webinarCategoryStrategyFactory.getStrategy(category);
+        Specification<Webinar> spec = strategy.getSpecification(userId, role);
+        Sort.Order order = strategy.getSort().iterator().next();
 
-        Map<UUID, UserShortInfoResponseDto> userMap = Collections.emptyMap();
-        if (!page.isEmpty()) {
-            Set<UUID> tutorIds = page.stream()
-                    .map(Webinar::getCreatedBy)
-                    .collect(Collectors.toSet());
+        String categoryKey = WebinarCategoryStrategyFactory.categoryKey(category);
+        String scope = WebinarCursor.scopeOf(userId, role);
+        WebinarCursor current = (cursor == null || cursor.isBlank()) ? null : WebinarCursor.decode(cursor);
+        if (current != null) {
+            current.assertIssuedFor(categoryKey, scope);
+        }
+        boolean backward = current != null && current.direction() == WebinarCursor.Direction.PREV;
+
+        Sort.Direction direction = backward
+                ? (order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC)
+                : order.getDirection();
+        Sort keysetSort = Sort.by(
+                new Sort.Order(direction, order.getProperty()),
+                new Sort.Order(direction, "id")
+        );
 
-            userMap = userClient.getShortInfoBulk(new ArrayList<>(tutorIds));
+        if (current != null) {
+            spec = spec.and(WebinarSpecification.seek(order.getProperty(), direction, current.sortValue(), current.id()));
         }
 
-        final Map<UUID, UserShortInfoResponseDto> finalUserMap = userMap;
+        List<WebinarListRow> rows = webinarListQueryRepository.findRows(spec, keysetSort, 0, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<WebinarListRow> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(content);
+        }
 
-        List<WebinarListItemResponseDto> webinars = page.getContent().stream()
-                .map(webinar -> {
-                    UserShortInfoResponseDto tutor = finalUserMap.get(webinar.getCreatedBy());
-                    return WebinarListItemResponseDto.builder()
-                            .id(webinar.getId())
-                            .title(webinar.getTitle())
-                            .startTime(webinar.getStartTime())
-                            .endTime(webinar.getEndTime())
-                            .platformUrl(webinar.getPlatformUrl())
-                            .previewUrl(webinar.getPreviewUrl())
-                            .tutors(List.of(tutor))
-                            .build();
-                })
-                .toList();
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            boolean hasNext = backward || hasMore;
+            boolean hasPrev = backward ? hasMore : current != null;
+            if (hasNext) {
+                nextCursor = cursorOf(categoryKey, scope, WebinarCursor.Direction.NEXT, order, content.get(content.size() - 1));
+            }
+            if (hasPrev) {
+                prevCursor = cursorOf(categoryKey, scope, WebinarCursor.Direction.PREV, order, content.get(0));
+            }
+        }
 
-        String message = page.isEmpty()
-                ? messageSource.getMessage("webinar.empty", null, Locale.forLanguageTag(lang))
-                : null;
+        String etag = listETag(content, userId, role, category, lang, "cursor", cursor, size, nextCursor, prevCursor);
+        return new WebinarListSlice(lang, content, null, null, nextCursor, prevCursor, etag);
+    }
 
-        return WebinarListPageResponse.builder()
+    @Override
+    public WebinarListPageResponse toListPage(WebinarListSlice slice) {
+        List<WebinarListItemResponseDto> webinars = webinarListItemAssembler.toListItems(slice.rows());
+        WebinarListPageResponse.WebinarListPageResponseBuilder page = WebinarListPageResponse.builder()
                 .webinars(webinars)
                 .empty(webinars.isEmpty())
-                .message(message)
-                .totalPages(page.getTotalPages())
-                .totalElements(page.getTotalElements())
-                .build();
+                .message(emptyMessage(webinars, slice.lang()));
+        if (slice.totalElements() != null) {
+            page.totalElements(slice.totalElements())
+                    .totalPages(slice.totalPages());
+        }
+        return page.build();
+    }
+
+    /**
+     * Preview blobs are reference counted across webinars, so a reference is only released once the
+     * transaction's outcome is known: {@code releasedOnCommit} is the preview the committed row no longer
+     * points to, {@code releasedOnRollback} the freshly stored one the rolled-back row would have used.
+     */
+    private void releasePreviewAfterCompletion(String releasedOnCommit, String releasedOnRollback) {
+        if (releasedOnCommit == null && releasedOnRollback == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releasePreview(releasedOnCommit);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releasePreview(releasedOnRollback);
+                }
+            }
+        });
+    }
+
+    private void releasePreview(String filename) {
+        if (filename == null) {
+            return;
+        }
+        try {
+            fileStorageService.delete(filename);
+            log.info("Released preview: {}", filename);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release preview {}: {}", filename, e.getMessage());
+        }
+    }
+
+    /**
+     * Generates the preview variants once the webinar row is committed and records the card variant
+     * on every webinar sharing that file, so list reads pick it up without stat-ing storage.
+     */
+    private void generateDerivativesAfterCommit(String previewFilename) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                previewDerivativeService.generateAsync(previewFilename)
+                        .thenAccept(card -> {
+                            if (card != null) {
+                                List<UUID> ids = webinarCardPreviewRepository.recordCardPreview(previewFilename, card);
+                                webinarSecondLevelCache.evictWebinars(ids);
+                                cacheInvalidationBus.publishAfterCommit(CacheInvalidationBus.WEBINAR, ids);
+                            }
+                        })
+                        .exceptionally(e -> {
+                            log.warn("Failed to record card preview for {}: {}", previewFilename, e.getMessage());
+                            return null;
+                        });
+            }
+        });
+    }
+
+    /**
+     * Weak validator of a list response, derived from the rows already loaded for it: every selected column
+     * of every row (the record's {@code toString}) plus the request parameters and page metadata that shape
+     * the body. No extra query is run for it. Tutor profile edits are not part of it, the same staleness the
+     * tutor cache already accepts.
+     */
+    private static String listETag(List<WebinarListRow> rows, Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            key.append(part).append('|');
+        }
+        for (WebinarListRow row : rows) {
+            key.append(row).append('\n');
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private String emptyMessage(List<WebinarListItemResponseDto> webinars, String lang) {
+        return webinars.isEmpty()
+                ? messageSource.getMessage("webinar.empty", null, Locale.forLanguageTag(lang))
+                : null;
+    }
+
+    private String cursorOf(String categoryKey, String scope, WebinarCursor.Direction direction, Sort.Order order,
+                            WebinarListRow row) {
+        return new WebinarCursor(categoryKey, scope, direction, row.sortValue(order.getProperty()), row.id()).encode();
     }
 
     private void updateWebinarFields(WebinarUpdateRequestDto dto, Webinar webinar, String newFilename, String newUrl) {
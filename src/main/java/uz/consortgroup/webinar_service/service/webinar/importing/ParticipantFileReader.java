@@ -0,0 +1,170 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import com.github.pjfanning.xlsx.StreamingReader;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import uz.consortgroup.webinar_service.exception.InvalidImportFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Streams participant identifiers (email or PINFL) from the first column of a CSV or XLSX file,
+ * one row at a time, without loading the whole file. A leading header row is skipped.
+ */
+public final class ParticipantFileReader {
+
+    private static final int XLSX_ROW_CACHE = 100;
+    private static final int XLSX_BUFFER_SIZE = 4096;
+
+    public enum Format { CSV, XLSX }
+
+    private ParticipantFileReader() {}
+
+    public static Format detectFormat(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv") || name.endsWith(".txt")) {
+            return Format.CSV;
+        }
+        if (name.endsWith(".xlsx")) {
+            return Format.XLSX;
+        }
+        throw new InvalidImportFileException("Unsupported participants file: " + filename + ", expected .csv or .xlsx");
+    }
+
+    public static void forEachIdentifier(Path file, Format format, Consumer<String> consumer) throws IOException {
+        HeaderSkippingConsumer sink = new HeaderSkippingConsumer(consumer);
+        switch (format) {
+            case CSV -> readCsv(file, sink);
+            case XLSX -> readXlsx(file, sink);
+        }
+    }
+
+    private static void readCsv(Path file, Consumer<String> sink) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                int separator = firstSeparator(line);
+                String cell = separator >= 0 ? line.substring(0, separator) : line;
+                sink.accept(unquote(cell.trim()));
+            }
+        }
+    }
+
+    /**
+     * Only parser failures are reported as an unreadable file; whatever the sink throws (the import
+     * itself) propagates unchanged, as it does for CSV.
+     */
+    private static void readXlsx(Path file, Consumer<String> sink) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             Workbook workbook = openXlsx(in)) {
+            Iterator<Row> rows = firstSheetRows(workbook);
+            Row row;
+            while ((row = nextRow(rows)) != null) {
+                Cell cell = row.getCell(0);
+                if (cell != null) {
+                    sink.accept(cellValue(cell));
+                }
+            }
+        }
+    }
+
+    private static Workbook openXlsx(InputStream in) {
+        try {
+            return StreamingReader.builder()
+                    .rowCacheSize(XLSX_ROW_CACHE)
+                    .bufferSize(XLSX_BUFFER_SIZE)
+                    .open(in);
+        } catch (RuntimeException e) {
+            throw new InvalidImportFileException("Failed to read XLSX file: " + e.getMessage());
+        }
+    }
+
+    private static Iterator<Row> firstSheetRows(Workbook workbook) {
+        try {
+            Sheet sheet = workbook.getSheetAt(0);
+            return sheet.rowIterator();
+        } catch (RuntimeException e) {
+            throw new InvalidImportFileException("Failed to read XLSX file: " + e.getMessage());
+        }
+    }
+
+    private static Row nextRow(Iterator<Row> rows) {
+        try {
+            return rows.hasNext() ? rows.next() : null;
+        } catch (RuntimeException e) {
+            throw new InvalidImportFileException("Failed to read XLSX file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Formula cells are read from their cached result; error and blank cells yield an empty value.
+     */
+    private static String cellValue(Cell cell) {
+        CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+        return switch (type) {
+            // PINFL columns are often typed as numbers; avoid "1.2345678901234E13"
+            case NUMERIC -> BigDecimal.valueOf(cell.getNumericCellValue()).stripTrailingZeros().toPlainString();
+            case STRING -> cell.getStringCellValue().trim();
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            default -> "";
+        };
+    }
+
+    private static int firstSeparator(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ',' || c == ';' || c == '\t') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
+
+    /**
+     * Drops blank cells and a header: the first non-blank cell if it looks like neither an email nor a PINFL.
+     */
+    private static final class HeaderSkippingConsumer implements Consumer<String> {
+        private final Consumer<String> delegate;
+        private boolean first = true;
+
+        private HeaderSkippingConsumer(Consumer<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void accept(String value) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            if (first) {
+                first = false;
+                if (value.indexOf('@') < 0 && value.chars().noneMatch(Character::isDigit)) {
+                    return;
+                }
+            }
+            delegate.accept(value);
+        }
+    }
+}
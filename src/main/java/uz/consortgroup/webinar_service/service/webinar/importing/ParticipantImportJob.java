@@ -0,0 +1,74 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable progress of one import; counters are updated by the worker and read by status requests.
+ */
+@Getter
+class ParticipantImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID webinarId;
+    private final UUID courseId;
+    private final boolean onlyCourseParticipants;
+    private final UUID submittedBy;
+    private final Path file;
+    private final ParticipantFileReader.Format format;
+    private final Map<String, String> headers;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    final AtomicLong rows = new AtomicLong();
+    final AtomicLong resolved = new AtomicLong();
+    final AtomicLong unresolved = new AtomicLong();
+    final AtomicLong ambiguous = new AtomicLong();
+    final AtomicLong notEnrolled = new AtomicLong();
+    final AtomicLong guests = new AtomicLong();
+    final AtomicLong added = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+
+    private volatile ParticipantImportStatus.State state = ParticipantImportStatus.State.QUEUED;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    ParticipantImportJob(UUID webinarId, UUID courseId, boolean onlyCourseParticipants, UUID submittedBy,
+                         Path file, ParticipantFileReader.Format format, Map<String, String> headers) {
+        this.webinarId = webinarId;
+        this.courseId = courseId;
+        this.onlyCourseParticipants = onlyCourseParticipants;
+        this.submittedBy = submittedBy;
+        this.file = file;
+        this.format = format;
+        this.headers = headers;
+    }
+
+    void start() {
+        state = ParticipantImportStatus.State.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        state = ParticipantImportStatus.State.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        state = ParticipantImportStatus.State.FAILED;
+    }
+
+    ParticipantImportStatus toStatus() {
+        return new ParticipantImportStatus(id, webinarId, state, rows.get(), resolved.get(), unresolved.get(),
+                ambiguous.get(), notEnrolled.get(), guests.get(), added.get(), failed.get(), error, submittedAt, finishedAt);
+    }
+
+    ParticipantImportRecord toRecord() {
+        return new ParticipantImportRecord(courseId, submittedBy, toStatus());
+    }
+}
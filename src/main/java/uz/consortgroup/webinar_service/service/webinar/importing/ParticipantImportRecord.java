@@ -0,0 +1,9 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import java.util.UUID;
+
+/**
+ * The copy of a job kept in Redis: its status plus what a status request is authorized against.
+ */
+record ParticipantImportRecord(UUID courseId, UUID submittedBy, ParticipantImportStatus status) {
+}
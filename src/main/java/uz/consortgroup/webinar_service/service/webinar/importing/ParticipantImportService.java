@@ -0,0 +1,10 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+public interface ParticipantImportService {
+    ParticipantImportStatus submit(UUID webinarId, MultipartFile file);
+    ParticipantImportStatus getStatus(UUID webinarId, UUID jobId);
+}
@@ -0,0 +1,225 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.webinar_service.cache.RemoteCache;
+import uz.consortgroup.webinar_service.entity.Webinar;
+import uz.consortgroup.webinar_service.exception.FileStorageException;
+import uz.consortgroup.webinar_service.exception.InvalidImportFileException;
+import uz.consortgroup.webinar_service.exception.ResourceNotFoundException;
+import uz.consortgroup.webinar_service.exception.UserSearchFailedException;
+import uz.consortgroup.webinar_service.exception.WebinarNotFoundException;
+import uz.consortgroup.webinar_service.repository.WebinarRepository;
+import uz.consortgroup.webinar_service.security.AuthContext;
+import uz.consortgroup.webinar_service.security.PropagatedHeaders;
+import uz.consortgroup.webinar_service.service.webinar.IdentifierNormalizer;
+import uz.consortgroup.webinar_service.service.webinar.ParticipantMatcher;
+import uz.consortgroup.webinar_service.service.webinar.ParticipantResolution;
+import uz.consortgroup.webinar_service.service.webinar.ParticipantResolver;
+import uz.consortgroup.webinar_service.service.webinar.WebinarParticipantService;
+import uz.consortgroup.webinar_service.validator.CourseValidationService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Imports participants from an uploaded file in the background. The upload is copied to a temp file
+ * and read row by row; every {@code webinar.participants.import.chunk-size} identifiers are resolved,
+ * filtered (ambiguous matches, guests, and non-enrolled users when the webinar is limited to course participants) and
+ * added through {@link WebinarParticipantService#addParticipants} in their own transaction.
+ * The node that accepted the upload runs the job and writes its progress to Redis after every chunk,
+ * so status requests can be served by any replica for {@code webinar.participants.import.retention}.
+ */
+@Slf4j
+@Service
+public class ParticipantImportServiceImpl implements ParticipantImportService {
+
+    static final String KEY_PREFIX = "webinar:participant-import:";
+
+    private final WebinarRepository webinarRepository;
+    private final WebinarParticipantService webinarParticipantService;
+    private final ParticipantResolver participantResolver;
+    private final CourseValidationService courseValidationService;
+    private final AuthContext authContext;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final RemoteCache<ParticipantImportRecord> jobs;
+
+    public ParticipantImportServiceImpl(WebinarRepository webinarRepository,
+                                        WebinarParticipantService webinarParticipantService,
+                                        ParticipantResolver participantResolver,
+                                        CourseValidationService courseValidationService,
+                                        AuthContext authContext,
+                                        TransactionTemplate transactionTemplate,
+                                        @Qualifier("participantImportExecutor") ThreadPoolTaskExecutor executor,
+                                        StringRedisTemplate redisTemplate,
+                                        ObjectMapper objectMapper,
+                                        @Value("${webinar.participants.import.chunk-size:1000}") int chunkSize,
+                                        @Value("${webinar.participants.import.retention:1h}") Duration retention) {
+        this.webinarRepository = webinarRepository;
+        this.webinarParticipantService = webinarParticipantService;
+        this.participantResolver = participantResolver;
+        this.courseValidationService = courseValidationService;
+        this.authContext = authContext;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.jobs = new RemoteCache<>(redisTemplate, objectMapper, KEY_PREFIX, ParticipantImportRecord.class, retention);
+    }
+
+    @Override
+    public ParticipantImportStatus submit(UUID webinarId, MultipartFile file) {
+        Webinar webinar = webinarRepository.findById(webinarId)
+                .orElseThrow(() -> new WebinarNotFoundException("Webinar not found with id: " + webinarId));
+
+        UUID currentUserId = authContext.getCurrentUserId();
+        UserRole currentRole = authContext.getCurrentUserRole();
+        courseValidationService.assertCourseVisibleForUser(webinar.getCourseId(), currentUserId, currentRole);
+
+        if (file == null || file.isEmpty()) {
+            throw new InvalidImportFileException("Participants file is empty");
+        }
+        ParticipantFileReader.Format format = ParticipantFileReader.detectFormat(file.getOriginalFilename());
+
+        Path temp;
+        try {
+            temp = Files.createTempFile("participants-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("Failed to store participants file", e);
+        }
+
+        ParticipantImportJob job = new ParticipantImportJob(webinarId, webinar.getCourseId(),
+                Boolean.TRUE.equals(webinar.getOnlyCourseParticipants()), currentUserId, temp, format,
+                PropagatedHeaders.capture());
+        save(job);
+        try {
+            executor.execute(() -> PropagatedHeaders.runWith(job.getHeaders(), () -> run(job)));
+        } catch (TaskRejectedException e) {
+            jobs.evict(List.of(job.getId().toString()));
+            deleteQuietly(temp);
+            throw e;
+        }
+
+        log.info("Queued participant import {} for webinar {} ({}, {} bytes)", job.getId(), webinarId, format, file.getSize());
+        return job.toStatus();
+    }
+
+    @Override
+    public ParticipantImportStatus getStatus(UUID webinarId, UUID jobId) {
+        ParticipantImportRecord job = jobs.getAll(List.of(jobId.toString()))
+                .getOrDefault(jobId.toString(), Optional.empty())
+                .orElse(null);
+        if (job == null || !job.status().webinarId().equals(webinarId)) {
+            throw new ResourceNotFoundException("Import job not found: " + jobId);
+        }
+
+        UUID currentUserId = authContext.getCurrentUserId();
+        UserRole currentRole = authContext.getCurrentUserRole();
+        courseValidationService.assertCourseVisibleForUser(job.courseId(), currentUserId, currentRole);
+        if (!job.submittedBy().equals(currentUserId)) {
+            throw new ResourceNotFoundException("Import job not found: " + jobId);
+        }
+        return job.status();
+    }
+
+    private void run(ParticipantImportJob job) {
+        job.start();
+        save(job);
+        List<String> chunk = new ArrayList<>(chunkSize);
+        try {
+            ParticipantFileReader.forEachIdentifier(job.getFile(), job.getFormat(), identifier -> {
+                job.rows.incrementAndGet();
+                chunk.add(identifier);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(job, chunk);
+                    chunk.clear();
+                    save(job);
+                }
+            });
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk);
+            }
+            job.complete();
+            log.info("Participant import {} finished: {}", job.getId(), job.toStatus());
+        } catch (IOException | RuntimeException e) {
+            log.error("Participant import {} for webinar {} failed", job.getId(), job.getWebinarId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(job.getFile());
+            save(job);
+        }
+    }
+
+    private void save(ParticipantImportJob job) {
+        jobs.putAll(Map.of(job.getId().toString(), job.toRecord()));
+    }
+
+    private void importChunk(ParticipantImportJob job, List<String> chunk) {
+        ParticipantResolution resolution;
+        try {
+            resolution = participantResolver.resolve(chunk);
+        } catch (UserSearchFailedException e) {
+            // successful lookups were cached; continue with those and report the rest as failed
+            job.failed.addAndGet(e.getFailedIdentifiers().size());
+            Set<String> failed = ParticipantMatcher.indexByKey(e.getFailedIdentifiers()).keySet();
+            resolution = participantResolver.resolve(chunk.stream()
+                    .filter(identifier -> !failed.contains(IdentifierNormalizer.normalize(identifier)))
+                    .toList());
+        }
+        job.resolved.addAndGet(resolution.resolved().size() + resolution.guests().size());
+        job.unresolved.addAndGet(resolution.unresolved().size());
+        job.ambiguous.addAndGet(resolution.ambiguous().size());
+        job.guests.addAndGet(resolution.guests().size());
+
+        Map<UUID, String> eligible = new LinkedHashMap<>(resolution.resolved());
+
+        if (job.isOnlyCourseParticipants() && !eligible.isEmpty()) {
+            Set<UUID> enrolled = courseValidationService.filterEnrolled(job.getCourseId(), eligible.keySet());
+            int before = eligible.size();
+            eligible.keySet().retainAll(enrolled);
+            job.notEnrolled.addAndGet(before - eligible.size());
+        }
+
+        if (eligible.isEmpty()) {
+            return;
+        }
+        List<String> identifiers = new ArrayList<>(eligible.values());
+        Integer added = transactionTemplate.execute(status -> webinarParticipantService
+                .addParticipants(webinarRepository.getReferenceById(job.getWebinarId()), identifiers)
+                .size());
+        job.added.addAndGet(added == null ? 0 : added);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete import file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ParticipantImportStatus(
+        UUID jobId,
+        UUID webinarId,
+        State state,
+        long rows,
+        long resolved,
+        long unresolved,
+        long ambiguous,
+        long notEnrolled,
+        long guests,
+        long added,
+        long failed,
+        String error,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt
+) {
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+}
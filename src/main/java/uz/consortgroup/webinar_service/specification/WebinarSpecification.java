@@ -1,7 +1,12 @@
 package uz.consortgroup.webinar_service.specification;
 
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import uz.consortgroup.webinar_service.entity.Webinar;
+import uz.consortgroup.webinar_service.entity.WebinarParticipant;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -16,7 +21,46 @@ public class WebinarSpecification {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("endTime"), now);
     }
 
+    public static Specification<Webinar> notEnded(LocalDateTime now) {
+        return (root, query, cb) -> cb.greaterThan(root.get("endTime"), now);
+    }
+
     public static Specification<Webinar> createdBy(UUID tutorId) {
         return (root, query, cb) -> cb.equal(root.get("createdBy"), tutorId);
     }
+
+    /**
+     * {@code EXISTS} semi-join on {@code webinar_participants (user_id, webinar_id)}: each webinar is
+     * matched at most once and no participant rows are loaded.
+     */
+    public static Specification<Webinar> hasParticipant(UUID userId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> participant = query.subquery(Integer.class);
+            Root<WebinarParticipant> p = participant.from(WebinarParticipant.class);
+            participant.select(cb.literal(1))
+                    .where(cb.equal(p.get("userId"), userId), cb.equal(p.get("webinar"), root));
+            return cb.exists(participant);
+        };
+    }
+
+    /**
+     * Keyset predicate: rows strictly after ({@code sortValue}, {@code id}) in the given direction,
+     * with {@code id} as the tie-breaker for equal sort keys.
+     */
+    public static Specification<Webinar> seek(String property, Sort.Direction direction, LocalDateTime sortValue, UUID id) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> key = root.get(property);
+            Path<UUID> rowId = root.get("id");
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(key, sortValue),
+                        cb.and(cb.equal(key, sortValue), cb.greaterThan(rowId, id))
+                );
+            }
+            return cb.or(
+                    cb.lessThan(key, sortValue),
+                    cb.and(cb.equal(key, sortValue), cb.lessThan(rowId, id))
+            );
+        };
+    }
 }
@@ -4,7 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
-import uz.consortgroup.webinar_service.client.CourseClient;
+import uz.consortgroup.webinar_service.cache.CourseEnrollmentCache;
+import uz.consortgroup.webinar_service.cache.CourseMetadataCache;
 import uz.consortgroup.webinar_service.exception.CourseNotFoundException;
 
 import java.util.Set;
@@ -15,10 +16,11 @@ import java.util.UUID;
 @Slf4j
 public class CourseValidationServiceImpl implements CourseValidationService {
 
-    private final CourseClient courseClient;
+    private final CourseEnrollmentCache courseEnrollmentCache;
+    private final CourseMetadataCache courseMetadataCache;
 
     public void validateCourseExists(UUID courseId) {
-        boolean exists = courseClient.courseExists(courseId);
+        boolean exists = courseMetadataCache.courseExists(courseId);
         if (!exists) {
             log.warn("Course with ID {} not found", courseId);
             throw new CourseNotFoundException(String.format("Course with ID %s not found", courseId));
@@ -29,7 +31,7 @@ public class CourseValidationServiceImpl implements CourseValidationService {
     public void assertCourseVisibleForUser(UUID courseId, UUID userId, UserRole role) {
         switch (role) {
             case MENTOR -> {
-                UUID tutorId = courseClient.getMentorId(courseId);
+                UUID tutorId = courseMetadataCache.getMentorId(courseId);
                 if (tutorId == null || !tutorId.equals(userId)) {
                     throw new SecurityException("Mentor cannot use a foreign course");
                 }
@@ -41,6 +43,9 @@ public class CourseValidationServiceImpl implements CourseValidationService {
 
     @Override
     public Set<UUID> filterEnrolled(UUID courseId, Set<UUID> userIds) {
-        return Set.of();
+        if (userIds == null || userIds.isEmpty()) {
+            return Set.of();
+        }
+        return courseEnrollmentCache.filterEnrolled(courseId, userIds);
     }
 }
@@ -0,0 +1,14 @@
+CREATE INDEX IF NOT EXISTS idx_webinars_start_time_id
+    ON webinar_schema.webinars (start_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_webinars_end_time_id
+    ON webinar_schema.webinars (end_time DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_webinars_created_by_start_time_id
+    ON webinar_schema.webinars (created_by, start_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_webinars_created_by_end_time_id
+    ON webinar_schema.webinars (created_by, end_time DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_webinar_participants_user_id_webinar_id
+    ON webinar_schema.webinar_participants (user_id, webinar_id);
@@ -0,0 +1 @@
+ALTER TABLE webinar_schema.webinars ADD COLUMN IF NOT EXISTS card_preview_filename VARCHAR(255);
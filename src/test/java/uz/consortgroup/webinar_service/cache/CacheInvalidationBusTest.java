@@ -0,0 +1,101 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "webinar:cache-invalidation";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private LocalCacheInvalidator tutorCache;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CacheProperties cacheProperties;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.getInvalidation().setEnabled(true);
+        when(tutorCache.region()).thenReturn(CacheInvalidationBus.TUTOR);
+    }
+
+    @Test
+    void publishAfterCommit_shouldWaitForCommit() {
+        CacheInvalidationBus bus = bus();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publishAfterCommit(CacheInvalidationBus.WEBINAR, List.of(UUID.randomUUID()));
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onMessage_shouldEvictOnOtherNodesOnly() {
+        UUID userId = UUID.randomUUID();
+        CacheInvalidationBus publisher = bus();
+        CacheInvalidationBus subscriber = bus();
+
+        publisher.publishAfterCommit(CacheInvalidationBus.TUTOR, List.of(userId));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), payload.capture());
+
+        publisher.onMessage(message(payload.getValue()), null);
+        verify(tutorCache, never()).invalidateLocal(any());
+
+        subscriber.onMessage(message(payload.getValue()), null);
+        verify(tutorCache).invalidateLocal(List.of(userId));
+        assertThat(registry.find("webinar.cache.invalidation.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onMessage_shouldCountMalformedMessagesAsDropped() {
+        bus().onMessage(message("{not json"), null);
+
+        verify(tutorCache, never()).invalidateLocal(any());
+        assertThat(registry.find("webinar.cache.invalidation.dropped").tag("reason", "malformed").counter().count())
+                .isEqualTo(1);
+    }
+
+    private CacheInvalidationBus bus() {
+        return new CacheInvalidationBus(redisTemplate, objectMapper, new WebinarMetrics(registry), List.of(tutorCache), cacheProperties);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package uz.consortgroup.webinar_service.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uz.consortgroup.webinar_service.client.CourseClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseEnrollmentCacheTest {
+
+    private static final UUID COURSE_ID = UUID.randomUUID();
+
+    @Mock
+    private CourseClient courseClient;
+
+    private CourseEnrollmentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CourseEnrollmentCache(courseClient, new CacheProperties(), 100, 4);
+    }
+
+    @Test
+    void filterEnrolled_shouldBatchLargeRostersIntoChunks() {
+        List<UUID> roster = IntStream.range(0, 1_050).mapToObj(i -> UUID.randomUUID()).toList();
+        Set<UUID> even = IntStream.range(0, roster.size()).filter(i -> i % 2 == 0)
+                .mapToObj(roster::get).collect(Collectors.toSet());
+        when(courseClient.checkEnrolled(eq(COURSE_ID), anyList())).thenAnswer(inv -> {
+            List<UUID> chunk = inv.getArgument(1);
+            return chunk.stream().filter(even::contains).toList();
+        });
+
+        Set<UUID> enrolled = cache.filterEnrolled(COURSE_ID, roster);
+
+        assertThat(enrolled).isEqualTo(even);
+        verify(courseClient, times(11)).checkEnrolled(eq(COURSE_ID), anyList());
+    }
+
+    @Test
+    void filterEnrolled_shouldOnlyCheckUsersNotSeenBefore() {
+        UUID enrolledUser = UUID.randomUUID();
+        UUID outsider = UUID.randomUUID();
+        UUID newcomer = UUID.randomUUID();
+        when(courseClient.checkEnrolled(eq(COURSE_ID), anyList())).thenReturn(List.of(enrolledUser), List.of(newcomer));
+
+        cache.filterEnrolled(COURSE_ID, List.of(enrolledUser, outsider));
+        Set<UUID> enrolled = cache.filterEnrolled(COURSE_ID, List.of(enrolledUser, outsider, newcomer));
+
+        assertThat(enrolled).containsExactlyInAnyOrder(enrolledUser, newcomer);
+        verify(courseClient).checkEnrolled(COURSE_ID, List.of(newcomer));
+    }
+}
@@ -0,0 +1,120 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import uz.consortgroup.webinar_service.client.CourseClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseMetadataCacheTest {
+
+    @Mock
+    private CourseClient courseClient;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private CourseMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.getCourseMetadata().setRemoteTtl(null);
+        cache = new CourseMetadataCache(courseClient, redisTemplate, new ObjectMapper(), properties, new WebinarMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void repeatedLookups_shouldCallCourseServiceOnce() {
+        UUID courseId = UUID.randomUUID();
+        UUID mentorId = UUID.randomUUID();
+        when(courseClient.courseExists(courseId)).thenReturn(true);
+        when(courseClient.getMentorId(courseId)).thenReturn(mentorId);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.courseExists(courseId)).isTrue();
+            assertThat(cache.getMentorId(courseId)).isEqualTo(mentorId);
+        }
+
+        verify(courseClient, times(1)).courseExists(courseId);
+        verify(courseClient, times(1)).getMentorId(courseId);
+    }
+
+    @Test
+    void missingCourse_shouldNotBeCached() {
+        UUID courseId = UUID.randomUUID();
+        when(courseClient.courseExists(courseId)).thenReturn(false, true);
+
+        assertThat(cache.courseExists(courseId)).isFalse();
+        assertThat(cache.courseExists(courseId)).isTrue();
+    }
+
+    @Test
+    void concurrentMisses_shouldBeCoalesced() throws Exception {
+        UUID courseId = UUID.randomUUID();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(courseClient.courseExists(courseId)).thenAnswer(inv -> {
+            loading.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.courseExists(courseId)));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+        }
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        verify(courseClient, times(1)).courseExists(courseId);
+    }
+
+    @Test
+    void loaderError_shouldNotLeaveLookupPending() {
+        UUID courseId = UUID.randomUUID();
+        when(courseClient.courseExists(courseId)).thenThrow(new AssertionError("boom")).thenReturn(true);
+
+        assertThatThrownBy(() -> cache.courseExists(courseId)).isInstanceOf(AssertionError.class);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThat(cache.courseExists(courseId)).isTrue());
+    }
+
+    @Test
+    void evict_shouldForceReload() {
+        UUID courseId = UUID.randomUUID();
+        when(courseClient.getMentorId(courseId)).thenReturn(UUID.randomUUID());
+
+        cache.getMentorId(courseId);
+        cache.evict(List.of(courseId));
+        cache.getMentorId(courseId);
+
+        verify(courseClient, times(2)).getMentorId(courseId);
+    }
+}
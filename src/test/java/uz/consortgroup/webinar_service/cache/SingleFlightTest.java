@@ -0,0 +1,137 @@
+package uz.consortgroup.webinar_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", new WebinarMetrics(registry));
+    }
+
+    @Test
+    void concurrentLookups_shouldShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Map<String, String>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> singleFlight.loadAll(List.of("a", "b"), keys -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Map.of("a", "A", "b", "B");
+            })));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> singleFlight.loadAll(List.of("b", "a"), keys -> {
+                    loads.incrementAndGet();
+                    return Map.of();
+                })));
+            }
+            awaitCoalesced(14);
+            release.countDown();
+        }
+
+        for (Future<Map<String, String>> result : results) {
+            assertThat(result.get()).containsExactlyInAnyOrderEntriesOf(Map.of("a", "A", "b", "B"));
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+        assertThat(registry.counter("webinar.singleflight.calls", "name", "test", "outcome", "coalesced").count()).isEqualTo(7);
+    }
+
+    @Test
+    void overlappingLookups_shouldOnlyLoadUnclaimedKeys() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<String>> batches = new ArrayList<>();
+
+        Future<Map<String, String>> second;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> singleFlight.loadAll(List.of("a"), keys -> {
+                loading.countDown();
+                await(release);
+                return Map.of("a", "A");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            second = executor.submit(() -> singleFlight.loadAll(List.of("a", "c"), keys -> {
+                synchronized (batches) {
+                    batches.add(keys);
+                }
+                return Map.of("c", "C");
+            }));
+            awaitCoalesced(1);
+            release.countDown();
+        }
+
+        assertThat(second.get()).containsExactlyInAnyOrderEntriesOf(Map.of("a", "A", "c", "C"));
+        assertThat(batches).containsExactly(List.of("c"));
+    }
+
+    @Test
+    void failedLoad_shouldFailWaitersAndNotBeKept() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Map<String, String>> waiter;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> singleFlight.loadAll(List.of("a"), keys -> {
+                loading.countDown();
+                await(release);
+                throw new IllegalStateException("user-service down");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            waiter = executor.submit(() -> singleFlight.loadAll(List.of("a"), keys -> Map.of()));
+            awaitCoalesced(1);
+            release.countDown();
+        }
+
+        assertThatThrownBy(waiter::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlight()).isZero();
+        assertThat(singleFlight.loadAll(List.of("a"), keys -> Map.of("a", "A"))).containsEntry("a", "A");
+    }
+
+    private void awaitCoalesced(int keys) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.counter("webinar.singleflight.keys", "name", "test", "outcome", "coalesced").count() < keys) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import uz.consortgroup.core.api.v1.dto.user.response.UserShortInfoResponseDto;
+import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TutorInfoCacheTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private TutorInfoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.getTutorInfo().setRemoteTtl(null);
+        cache = new TutorInfoCache(userClient, redisTemplate, new ObjectMapper(), properties, new WebinarMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void getShortInfo_shouldFetchOnlyMissingIds() {
+        UUID cached = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+
+        when(userClient.getShortInfoBulk(List.of(cached))).thenReturn(Map.of(cached, new UserShortInfoResponseDto()));
+        when(userClient.getShortInfoBulk(List.of(fresh))).thenReturn(Map.of(fresh, new UserShortInfoResponseDto()));
+
+        cache.getShortInfo(List.of(cached));
+        Map<UUID, UserShortInfoResponseDto> result = cache.getShortInfo(List.of(cached, fresh));
+
+        assertThat(result).containsOnlyKeys(cached, fresh);
+        verify(userClient, times(1)).getShortInfoBulk(List.of(cached));
+        verify(userClient, times(1)).getShortInfoBulk(List.of(fresh));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void getShortInfo_shouldNotCallUserService_whenAllIdsCachedLocally() {
+        UUID tutor = UUID.randomUUID();
+        when(userClient.getShortInfoBulk(List.of(tutor))).thenReturn(Map.of(tutor, new UserShortInfoResponseDto()));
+
+        cache.getShortInfo(List.of(tutor));
+        cache.getShortInfo(List.of(tutor));
+
+        verify(userClient, times(1)).getShortInfoBulk(anyList());
+    }
+
+    @Test
+    void getCachedShortInfo_shouldReturnOnlyCachedTutors_withoutCallingUserService() {
+        UUID cached = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(userClient.getShortInfoBulk(List.of(cached))).thenReturn(Map.of(cached, new UserShortInfoResponseDto()));
+
+        cache.getShortInfo(List.of(cached));
+        Map<UUID, UserShortInfoResponseDto> result = cache.getCachedShortInfo(List.of(cached, unknown));
+
+        assertThat(result).containsOnlyKeys(cached);
+        verify(userClient, times(1)).getShortInfoBulk(anyList());
+    }
+
+    @Test
+    void evict_shouldForceRefetch() {
+        UUID tutor = UUID.randomUUID();
+        when(userClient.getShortInfoBulk(List.of(tutor))).thenReturn(Map.of(tutor, new UserShortInfoResponseDto()));
+
+        cache.getShortInfo(List.of(tutor));
+        cache.evict(List.of(tutor));
+        cache.getShortInfo(List.of(tutor));
+
+        verify(userClient, times(2)).getShortInfoBulk(anyList());
+    }
+}
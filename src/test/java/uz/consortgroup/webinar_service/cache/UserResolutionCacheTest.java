@@ -0,0 +1,110 @@
+package uz.consortgroup.webinar_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import uz.consortgroup.core.api.v1.dto.user.response.UserBulkSearchResponse;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+import uz.consortgroup.webinar_service.client.UserClient;
+import uz.consortgroup.webinar_service.config.properties.CacheProperties;
+import uz.consortgroup.webinar_service.service.user.ChunkedUserSearch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserResolutionCacheTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private UserResolutionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserResolutionCache(new ChunkedUserSearch(userClient, 500, 4), redisTemplate, new ObjectMapper(), new CacheProperties());
+    }
+
+    @Test
+    void lookup_shouldServeNormalizedRepeatsFromCache() {
+        UserSearchResponse user = user("a@x.uz", null);
+        UserBulkSearchResponse response = bulk(user);
+        when(userClient.searchUsersBulk(any())).thenReturn(response);
+
+        cache.lookup(List.of("a@x.uz"));
+        Map<String, UserSearchResponse> result = cache.lookup(List.of(" A@X.uz")).users();
+
+        assertThat(result).containsEntry("a@x.uz", user);
+        verify(userClient, times(1)).searchUsersBulk(any());
+    }
+
+    @Test
+    void lookup_shouldRememberUnknownIdentifiers() {
+        UserBulkSearchResponse empty = bulk();
+        when(userClient.searchUsersBulk(any())).thenReturn(empty);
+
+        assertThat(cache.lookup(List.of("12345678901234")).users()).isEmpty();
+        assertThat(cache.lookup(List.of("1234 5678 901234")).users()).isEmpty();
+
+        verify(userClient, times(1)).searchUsersBulk(any());
+    }
+
+    @Test
+    void lookup_shouldQueryOnlyMisses() {
+        UserSearchResponse known = user("known@x.uz", null);
+        UserSearchResponse fresh = user(null, "12345678901234");
+        UserBulkSearchResponse first = bulk(known);
+        UserBulkSearchResponse second = bulk(fresh);
+        when(userClient.searchUsersBulk(any())).thenReturn(first, second);
+
+        cache.lookup(List.of("known@x.uz"));
+        Map<String, UserSearchResponse> result = cache.lookup(List.of("known@x.uz", "12345678901234")).users();
+
+        assertThat(result).containsOnlyKeys("known@x.uz", "12345678901234");
+        verify(userClient, times(2)).searchUsersBulk(any());
+    }
+
+    @Test
+    void lookup_shouldReportIdentifiersMatchedByDifferentUsersWithoutCachingThem() {
+        UserBulkSearchResponse response = bulk(user("shared@x.uz", null), user("Shared@X.uz", null));
+        when(userClient.searchUsersBulk(any())).thenReturn(response);
+
+        UserResolutionCache.Lookup first = cache.lookup(List.of("shared@x.uz"));
+        UserResolutionCache.Lookup second = cache.lookup(List.of("shared@x.uz"));
+
+        assertThat(first.users()).isEmpty();
+        assertThat(first.ambiguous()).containsExactly("shared@x.uz");
+        assertThat(second.ambiguous()).containsExactly("shared@x.uz");
+        verify(userClient, times(2)).searchUsersBulk(any());
+    }
+
+    private static UserSearchResponse user(String email, String pinfl) {
+        UserSearchResponse user = mock(UserSearchResponse.class);
+        lenient().when(user.getUserId()).thenReturn(UUID.randomUUID());
+        lenient().when(user.getEmail()).thenReturn(email);
+        lenient().when(user.getPinfl()).thenReturn(pinfl);
+        return user;
+    }
+
+    private static UserBulkSearchResponse bulk(UserSearchResponse... users) {
+        UserBulkSearchResponse response = mock(UserBulkSearchResponse.class);
+        when(response.getUsers()).thenReturn(List.of(users));
+        return response;
+    }
+}
@@ -0,0 +1,97 @@
+package uz.consortgroup.webinar_service.client;
+
+import feign.InvocationHandlerFactory;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilienceCapabilityTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private CircuitBreakerRegistry circuitBreakers;
+    private ResilienceCapability capability;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+        RetryRegistry retries = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .build());
+        capability = new ResilienceCapability(circuitBreakers, BulkheadRegistry.ofDefaults(), retries);
+    }
+
+    @Test
+    void retriesIdempotentLookups() throws Throwable {
+        InvocationHandler handler = handler(UserClient.class, "user-service", failing());
+
+        assertThatThrownBy(() -> handler.invoke(null, shortInfoMethod(), new Object[]{List.of()}))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void doesNotRetryOtherCalls() throws Throwable {
+        InvocationHandler handler = handler(WriteClient.class, "write-service", failing());
+        Method write = WriteClient.class.getMethod("write", UUID.class);
+
+        assertThatThrownBy(() -> handler.invoke(null, write, new Object[]{UUID.randomUUID()}))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void rejectsCallsWhileCircuitIsOpen() throws Throwable {
+        InvocationHandler handler = handler(UserClient.class, "user-service", failing());
+        circuitBreakers.circuitBreaker("user-service").transitionToForcedOpenState();
+
+        assertThatThrownBy(() -> handler.invoke(null, shortInfoMethod(), new Object[]{List.of()}))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void passesResultThrough() throws Throwable {
+        InvocationHandlerFactory delegate = (target, dispatch) -> (proxy, method, args) -> Map.of();
+        InvocationHandler handler = capability.enrich(delegate).create(new Target.HardCodedTarget<>(UserClient.class, "user-service", "http://localhost"), Map.of());
+
+        assertThat(handler.invoke(null, shortInfoMethod(), new Object[]{List.of()})).isEqualTo(Map.of());
+    }
+
+    private InvocationHandler handler(Class<?> type, String name, InvocationHandlerFactory delegate) {
+        return capability.enrich(delegate).create(new Target.HardCodedTarget<>(type, name, "http://localhost"), Map.of());
+    }
+
+    private InvocationHandlerFactory failing() {
+        return (target, dispatch) -> (proxy, method, args) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("user-service down");
+        };
+    }
+
+    private static Method shortInfoMethod() throws NoSuchMethodException {
+        return UserClient.class.getMethod("getShortInfoBulk", List.class);
+    }
+
+    interface WriteClient {
+        @PostMapping("/write")
+        void write(UUID id);
+    }
+}
@@ -0,0 +1,60 @@
+package uz.consortgroup.webinar_service.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FailFastScopeTest {
+
+    @Test
+    void join_shouldRunSubtasksConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (FailFastScope scope = new FailFastScope()) {
+            Future<String> first = scope.fork(() -> awaitOther(bothStarted, "a"));
+            Future<String> second = scope.fork(() -> awaitOther(bothStarted, "b"));
+            scope.join();
+
+            assertThat(first.resultNow()).isEqualTo("a");
+            assertThat(second.resultNow()).isEqualTo("b");
+        }
+    }
+
+    @Test
+    void join_shouldRethrowFirstFailureAndCancelOthers() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        try (FailFastScope scope = new FailFastScope()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw new SecurityException("denied");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(SecurityException.class)
+                    .hasMessage("denied");
+        }
+        assertThat(interrupted).isTrue();
+    }
+
+    private static String awaitOther(CountDownLatch latch, String value) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("subtasks did not overlap");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,78 @@
+package uz.consortgroup.webinar_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private HikariDataSource first;
+
+    @Mock
+    private HikariDataSource second;
+
+    @Mock
+    private DataSource primary;
+
+    @Test
+    void roundRobinsAcrossReplicas() throws SQLException {
+        Connection firstConnection = mock(Connection.class);
+        Connection secondConnection = mock(Connection.class);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(List.of(first, second), primary, Duration.ofSeconds(30));
+
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+    }
+
+    @Test
+    void skipsFailedReplicaUntilRetryInterval() throws SQLException {
+        Connection secondConnection = mock(Connection.class);
+        when(first.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(second.getConnection()).thenReturn(secondConnection);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(List.of(first, second), primary, Duration.ofMinutes(1));
+
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        verify(first, times(1)).getConnection();
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsAvailable() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        when(first.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(List.of(first), primary, Duration.ofSeconds(30));
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void usesPrimaryWithoutReplicas() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(List.of(), primary, Duration.ofSeconds(30));
+
+        assertThat(routing.hasReplicas()).isFalse();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+}
@@ -0,0 +1,83 @@
+package uz.consortgroup.webinar_service.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.webinar_service.cache.CacheInvalidationBus;
+import uz.consortgroup.webinar_service.cache.CourseEnrollmentCache;
+import uz.consortgroup.webinar_service.cache.CourseMetadataCache;
+import uz.consortgroup.webinar_service.cache.TutorInfoCache;
+import uz.consortgroup.webinar_service.cache.WebinarSecondLevelCache;
+import uz.consortgroup.webinar_service.security.AuthContext;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = InternalCacheController.class)
+class InternalCacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TutorInfoCache tutorInfoCache;
+
+    @MockitoBean
+    private CourseMetadataCache courseMetadataCache;
+
+    @MockitoBean
+    private CourseEnrollmentCache courseEnrollmentCache;
+
+    @MockitoBean
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @MockitoBean
+    private WebinarSecondLevelCache webinarSecondLevelCache;
+
+    @MockitoBean
+    private AuthContext authContext;
+
+    @Test
+    void evictTutors_shouldReturn403_whenCallerIsNotAdmin() throws Exception {
+        when(authContext.getCurrentUserRole()).thenReturn(UserRole.MENTOR);
+
+        mockMvc.perform(post("/api/v1/internal/cache/tutors/evict")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + UUID.randomUUID() + "\"]"))
+                .andExpect(status().isForbidden());
+
+        verify(tutorInfoCache, never()).evict(any());
+    }
+
+    @Test
+    void evictAllCoursesLocal_shouldReturn403_whenCallerIsNotAdmin() throws Exception {
+        when(authContext.getCurrentUserRole()).thenReturn(UserRole.MENTOR);
+
+        mockMvc.perform(delete("/api/v1/internal/cache/courses"))
+                .andExpect(status().isForbidden());
+
+        verify(courseMetadataCache, never()).evictAllLocal();
+    }
+
+    @Test
+    void secondLevelCacheStats_shouldReturnStats_whenCallerIsAdmin() throws Exception {
+        when(authContext.getCurrentUserRole()).thenReturn(UserRole.ADMIN);
+        when(webinarSecondLevelCache.stats()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/internal/cache/hibernate"))
+                .andExpect(status().isOk());
+    }
+}
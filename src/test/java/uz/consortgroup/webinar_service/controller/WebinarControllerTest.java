@@ -16,7 +16,12 @@ import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarCreateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.request.WebinarUpdateRequestDto;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarListPageResponse;
 import uz.consortgroup.core.api.v1.dto.webinar.response.WebinarResponseDto;
+import uz.consortgroup.webinar_service.pagination.WebinarListSlice;
+import uz.consortgroup.webinar_service.service.storage.PreviewDeliveryService;
+import uz.consortgroup.webinar_service.service.webinar.ListDegradation;
 import uz.consortgroup.webinar_service.service.webinar.WebinarService;
+import uz.consortgroup.webinar_service.service.webinar.importing.ParticipantImportService;
+import uz.consortgroup.webinar_service.service.webinar.importing.ParticipantImportStatus;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -27,9 +32,13 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +51,12 @@ class WebinarControllerTest {
     @MockitoBean
     private WebinarService webinarService;
 
+    @MockitoBean
+    private PreviewDeliveryService previewDeliveryService;
+
+    @MockitoBean
+    private ParticipantImportService participantImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -118,6 +133,25 @@ class WebinarControllerTest {
                 .andExpect(jsonPath("$.title").value(dto.getTitle()));
     }
 
+    @Test
+    void importParticipants_shouldReturn202WithStatusLocation() throws Exception {
+        UUID webinarId = UUID.randomUUID();
+        UUID jobId = UUID.randomUUID();
+        ParticipantImportStatus queued = new ParticipantImportStatus(jobId, webinarId, ParticipantImportStatus.State.QUEUED,
+                0, 0, 0, 0, 0, 0, 0, 0, null, LocalDateTime.now(), null);
+        when(participantImportService.submit(eq(webinarId), any())).thenReturn(queued);
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "participants.csv", "text/csv", "email\nuser1@example.com\n".getBytes(StandardCharsets.UTF_8)
+        );
+
+        mockMvc.perform(MockMvcRequestBuilders.multipart("/api/v1/webinars/{webinarId}/participants/import", webinarId)
+                        .file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/webinars/" + webinarId + "/participants/import/" + jobId))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
     @Test
     void deleteWebinar_shouldReturn200_whenFound() throws Exception {
         UUID id = UUID.randomUUID();
@@ -134,6 +168,7 @@ class WebinarControllerTest {
         String category = "planned";
         String lang = "ru";
 
+        WebinarListSlice slice = new WebinarListSlice(lang, List.of(), 0L, 0, null, null, "W/\"1\"");
         WebinarListPageResponse mockResponse = WebinarListPageResponse.builder()
                 .empty(true)
                 .message("Нет запланированных вебинаров")
@@ -143,7 +178,8 @@ class WebinarControllerTest {
                 .build();
 
         when(webinarService.getWebinars(eq(category), eq(lang), any(Pageable.class)))
-                .thenReturn(mockResponse);
+                .thenReturn(slice);
+        when(webinarService.toListPage(slice)).thenReturn(mockResponse);
 
         mockMvc.perform(get("/api/v1/webinars/list")
                         .param("category", category)
@@ -159,6 +195,79 @@ class WebinarControllerTest {
         verify(webinarService).getWebinars(eq(category), eq(lang), any(Pageable.class));
     }
 
+    @Test
+    void getWebinars_ShouldReturnETag_AndNotModifiedOnMatch() throws Exception {
+        String etag = "W/\"3f2a\"";
+        WebinarListSlice slice = new WebinarListSlice("ru", List.of(), 0L, 0, null, null, etag);
+        when(webinarService.getWebinars(eq("planned"), eq("ru"), any(Pageable.class)))
+                .thenReturn(slice);
+        when(webinarService.toListPage(slice))
+                .thenReturn(WebinarListPageResponse.builder().empty(true).webinars(Collections.emptyList()).build());
+
+        mockMvc.perform(get("/api/v1/webinars/list")
+                        .param("category", "planned"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+
+        mockMvc.perform(get("/api/v1/webinars/list")
+                        .param("category", "planned")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(webinarService, times(1)).toListPage(any());
+    }
+
+    @Test
+    void getWebinars_ShouldReplaceETag_WhenDegraded() throws Exception {
+        String etag = "W/\"3f2a\"";
+        String degradedETag = "W/\"3f2a-degraded\"";
+        WebinarListSlice slice = new WebinarListSlice("ru", List.of(), 0L, 0, null, null, etag);
+        WebinarListPageResponse page = WebinarListPageResponse.builder().empty(true).webinars(Collections.emptyList()).build();
+        when(webinarService.getWebinars(eq("planned"), eq("ru"), any(Pageable.class)))
+                .thenReturn(slice);
+        when(webinarService.toListPage(slice))
+                .thenAnswer(invocation -> {
+                    ListDegradation.mark(ListDegradation.TUTORS);
+                    return page;
+                })
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/webinars/list")
+                        .param("category", "planned"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Degraded", "tutors"))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().string("ETag", degradedETag));
+
+        mockMvc.perform(get("/api/v1/webinars/list")
+                        .param("category", "planned")
+                        .header("If-None-Match", degradedETag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Degraded"))
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    void getWebinars_ShouldReturnCursorHeaders_WhenCursorPaging() throws Exception {
+        WebinarListSlice slice = new WebinarListSlice("ru", List.of(), null, null, "next-token", null, "W/\"2\"");
+        when(webinarService.getWebinarsByCursor(eq("past"), eq("ru"), isNull(), eq(20)))
+                .thenReturn(slice);
+        when(webinarService.toListPage(slice))
+                .thenReturn(WebinarListPageResponse.builder().empty(false).webinars(Collections.emptyList()).build());
+
+        mockMvc.perform(get("/api/v1/webinars/list")
+                        .param("category", "past")
+                        .param("paging", "cursor")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-token"))
+                .andExpect(header().doesNotExist("X-Prev-Cursor"))
+                .andExpect(jsonPath("$.webinars").isArray());
+
+        verify(webinarService, never()).getWebinars(any(), any(), any(Pageable.class));
+    }
+
     @Test
     void getWebinars_ShouldReturn400_WhenCategoryMissing() throws Exception {
         mockMvc.perform(get("/api/v1/webinars/list")
@@ -0,0 +1,56 @@
+package uz.consortgroup.webinar_service.pagination;
+
+import org.junit.jupiter.api.Test;
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.webinar_service.exception.InvalidCursorException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebinarCursorTest {
+
+    @Test
+    void encode_thenDecode_shouldRoundTrip() {
+        WebinarCursor cursor = new WebinarCursor(
+                "mine",
+                WebinarCursor.scopeOf(UUID.randomUUID(), UserRole.ADMIN),
+                WebinarCursor.Direction.PREV,
+                LocalDateTime.of(2025, 8, 20, 10, 0, 15, 123_000_000),
+                UUID.randomUUID()
+        );
+
+        WebinarCursor decoded = WebinarCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_shouldBeUrlSafe() {
+        WebinarCursor cursor = new WebinarCursor("planned", WebinarCursor.scopeOf(UUID.randomUUID(), UserRole.MENTOR),
+                WebinarCursor.Direction.NEXT, LocalDateTime.now(), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_shouldThrow_whenTokenIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> WebinarCursor.decode("not-a-cursor"));
+        assertThrows(InvalidCursorException.class, () -> WebinarCursor.decode("%%%"));
+    }
+
+    @Test
+    void assertIssuedFor_shouldReject_whenCategoryOrScopeDiffers() {
+        UUID userId = UUID.randomUUID();
+        String scope = WebinarCursor.scopeOf(userId, UserRole.ADMIN);
+        WebinarCursor cursor = WebinarCursor.decode(new WebinarCursor(
+                "mine", scope, WebinarCursor.Direction.NEXT, LocalDateTime.now(), UUID.randomUUID()).encode());
+
+        cursor.assertIssuedFor("mine", scope);
+        assertThrows(InvalidCursorException.class, () -> cursor.assertIssuedFor("planned", scope));
+        assertThrows(InvalidCursorException.class,
+                () -> cursor.assertIssuedFor("mine", WebinarCursor.scopeOf(UUID.randomUUID(), UserRole.ADMIN)));
+    }
+}
@@ -0,0 +1,98 @@
+package uz.consortgroup.webinar_service.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares row-by-row inserts (what {@code saveAll} does without JDBC batching) with
+ * {@link WebinarParticipantBulkRepository}; timings are published through the {@link TestReporter}.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class WebinarParticipantBulkInsertBenchmark {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    private UUID webinarId;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("CREATE SCHEMA webinar_schema");
+        jdbcTemplate.execute("""
+                CREATE TABLE webinar_schema.webinars (id UUID PRIMARY KEY)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE webinar_schema.webinar_participants (
+                    id UUID PRIMARY KEY,
+                    webinar_id UUID NOT NULL REFERENCES webinar_schema.webinars (id) ON DELETE CASCADE,
+                    user_id UUID NOT NULL,
+                    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+                    CONSTRAINT uq_webinar_user UNIQUE (webinar_id, user_id))""");
+    }
+
+    @BeforeEach
+    void createWebinar() {
+        webinarId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO webinar_schema.webinars (id) VALUES (?)", webinarId);
+    }
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    void rowByRowVsBulk(int rows, TestReporter reporter) {
+        List<UUID> users = Stream.generate(UUID::randomUUID).limit(rows).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        long rowByRow = time(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (UUID userId : users) {
+                jdbcTemplate.update(
+                        "INSERT INTO webinar_schema.webinar_participants (id, webinar_id, user_id, created_at) VALUES (?, ?, ?, ?)",
+                        UUID.randomUUID(), webinarId, userId, now);
+            }
+        }));
+        jdbcTemplate.update("DELETE FROM webinar_schema.webinar_participants WHERE webinar_id = ?", webinarId);
+
+        WebinarParticipantBulkRepository bulkRepository = new WebinarParticipantBulkRepository(jdbcTemplate, 1000);
+        int[] inserted = new int[1];
+        long bulk = time(() -> transactionTemplate.executeWithoutResult(status ->
+                inserted[0] = bulkRepository.insertIgnoringDuplicates(webinarId, users, now)));
+
+        reporter.publishEntry("participants insert, %,d rows".formatted(rows),
+                "row-by-row %,d ms, bulk %,d ms (x%.1f)".formatted(
+                        rowByRow / 1_000_000, bulk / 1_000_000, (double) rowByRow / Math.max(1, bulk)));
+        assertThat(inserted[0]).isEqualTo(rows);
+        assertThat(bulk).as("bulk insert time (ns)").isLessThan(rowByRow);
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,28 @@
+package uz.consortgroup.webinar_service.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class WebinarParticipantBulkRepositoryTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 8192})
+    void constructor_shouldRejectChunkSizeOutsideBindParameterLimit(int chunkSize) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        assertThrows(IllegalArgumentException.class, () -> new WebinarParticipantBulkRepository(jdbcTemplate, chunkSize));
+    }
+
+    @Test
+    void constructor_shouldAcceptLargestChunkThatFitsBindParameterLimit() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        assertThatCode(() -> new WebinarParticipantBulkRepository(jdbcTemplate, 8191)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,147 @@
+package uz.consortgroup.webinar_service.repository;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexes from V043 against plan regressions: each listing/participant query,
+ * written the way the JPA specifications render it, must be answered from its index.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class WebinarQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withInitScript("db/init-extensions.sql");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static UUID mentorId;
+    private static UUID webinarId;
+    private static UUID userId;
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                INSERT INTO webinar_schema.webinars (title, category, start_time, end_time, platform_url,
+                                                     course_id, language_code, created_by)
+                SELECT 'Webinar ' || g,
+                       'PLANNED',
+                       now() + ((g - 100000) || ' minutes')::interval,
+                       now() + ((g - 100000 + 60) || ' minutes')::interval,
+                       'https://meet.example.com/' || g,
+                       uuid_generate_v4(),
+                       'RU',
+                       ('00000000-0000-0000-0000-' || lpad((g % 500)::text, 12, '0'))::uuid
+                FROM generate_series(1, 200000) g""");
+        jdbcTemplate.execute("""
+                INSERT INTO webinar_schema.webinar_participants (webinar_id, user_id)
+                SELECT w.id, uuid_generate_v4()
+                FROM webinar_schema.webinars w, generate_series(1, 3)""");
+        jdbcTemplate.execute("ANALYZE webinar_schema.webinars");
+        jdbcTemplate.execute("ANALYZE webinar_schema.webinar_participants");
+
+        mentorId = UUID.fromString("00000000-0000-0000-0000-000000000042");
+        webinarId = jdbcTemplate.queryForObject("SELECT id FROM webinar_schema.webinars LIMIT 1", UUID.class);
+        userId = jdbcTemplate.queryForObject("SELECT user_id FROM webinar_schema.webinar_participants LIMIT 1", UUID.class);
+    }
+
+    @Test
+    void plannedListing_shouldUseStartTimeIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinars w
+                WHERE w.start_time > now()
+                ORDER BY w.start_time ASC, w.id ASC
+                LIMIT 10""");
+
+        assertThat(plan).contains("idx_webinars_start_time_id").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void pastListing_shouldUseEndTimeIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinars w
+                WHERE w.end_time <= now()
+                ORDER BY w.end_time DESC, w.id DESC
+                LIMIT 10""");
+
+        assertThat(plan).contains("idx_webinars_end_time_id").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void mentorPlannedListing_shouldUseCreatedByStartTimeIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinars w
+                WHERE w.start_time > now() AND w.created_by = '%s'
+                ORDER BY w.start_time ASC, w.id ASC
+                LIMIT 10""".formatted(mentorId));
+
+        assertThat(plan).contains("idx_webinars_created_by_start_time_id").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void mentorPastListing_shouldUseCreatedByEndTimeIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinars w
+                WHERE w.end_time <= now() AND w.created_by = '%s'
+                ORDER BY w.end_time DESC, w.id DESC
+                LIMIT 10""".formatted(mentorId));
+
+        assertThat(plan).contains("idx_webinars_created_by_end_time_id").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void participantsByWebinar_shouldUseUniqueConstraintIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinar_participants p
+                WHERE p.webinar_id = '%s'""".formatted(webinarId));
+
+        assertThat(plan).contains("uq_webinar_user").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void participantsByUser_shouldUseUserIdWebinarIdIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinar_participants p
+                WHERE p.user_id = '%s'""".formatted(userId));
+
+        assertThat(plan).contains("idx_webinar_participants_user_id_webinar_id").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void myListing_shouldSemiJoinThroughUserWebinarIdIndex() {
+        String plan = explain("""
+                SELECT * FROM webinar_schema.webinars w
+                WHERE w.end_time > now()
+                  AND EXISTS (SELECT 1 FROM webinar_schema.webinar_participants p
+                              WHERE p.user_id = '%s' AND p.webinar_id = w.id)
+                ORDER BY w.start_time ASC, w.id ASC
+                LIMIT 10""".formatted(userId));
+
+        assertThat(plan).contains("idx_webinar_participants_user_id_webinar_id").doesNotContain("Seq Scan");
+    }
+
+    private static String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, String.class));
+    }
+}
@@ -0,0 +1,71 @@
+package uz.consortgroup.webinar_service.service.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import uz.consortgroup.webinar_service.config.properties.StorageProperties;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePreviewDerivativeServiceTest {
+
+    private static final String BASE_URL = "/api/v1/webinars/preview/";
+
+    private Path dir;
+    private ImagePreviewDerivativeService derivativeService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path baseDir = Files.createTempDirectory("webinar-derivative-test");
+        dir = Files.createDirectories(baseDir.resolve("webinars"));
+
+        StorageProperties properties = new StorageProperties();
+        properties.setBaseDir(baseDir);
+        properties.setImage(new StorageProperties.ImageProperties());
+
+        derivativeService = new ImagePreviewDerivativeService(
+                new LocalFileStorageService(properties, new WebinarMetrics(new SimpleMeterRegistry())), new ThreadPoolTaskExecutor(), properties, BASE_URL);
+    }
+
+    @Test
+    void generate_shouldCreateOnlyDownscaledVariants() throws IOException {
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "png", dir.resolve("banner.png").toFile());
+
+        derivativeService.generate("banner.png");
+
+        assertThat(dir.resolve("banner-w320.png")).exists();
+        assertThat(dir.resolve("banner-w640.png")).exists();
+        assertThat(dir.resolve("banner-w1280.png")).doesNotExist();
+        assertThat(ImageIO.read(dir.resolve("banner-w320.png").toFile()).getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    void generate_shouldReturnCardVariant_whenSourceIsWiderThanCard() throws IOException {
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "jpg", dir.resolve("photo.jpg").toFile());
+
+        assertThat(derivativeService.generate("photo.jpg")).isEqualTo("photo-w320.jpg");
+        assertThat(derivativeService.generate("photo.jpg")).isEqualTo("photo-w320.jpg");
+    }
+
+    @Test
+    void generate_shouldReturnNull_whenSourceIsNarrowerThanCard() throws IOException {
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "png", dir.resolve("icon.png").toFile());
+
+        assertThat(derivativeService.generate("icon.png")).isNull();
+        assertThat(dir.resolve("icon-w320.png")).doesNotExist();
+    }
+
+    @Test
+    void cardPreviewUrl_shouldUseRecordedCardVariant_andFallBackOtherwise() {
+        assertThat(derivativeService.cardPreviewUrl(null, BASE_URL + "photo.jpg")).isEqualTo(BASE_URL + "photo.jpg");
+        assertThat(derivativeService.cardPreviewUrl("photo-w320.jpg", BASE_URL + "photo.jpg")).isEqualTo(BASE_URL + "photo-w320.jpg");
+    }
+}
@@ -1,5 +1,6 @@
 package uz.consortgroup.webinar_service.service.storage;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,10 +9,16 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import uz.consortgroup.webinar_service.config.properties.StorageProperties;
 import uz.consortgroup.webinar_service.exception.FileStorageException;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -21,13 +28,15 @@ class LocalFileStorageServiceTest {
 
     private LocalFileStorageService storageService;
     private Path baseDir;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws IOException {
         baseDir = Files.createTempDirectory("webinar-storage-test");
         StorageProperties properties = new StorageProperties();
         properties.setBaseDir(baseDir);
-        storageService = new LocalFileStorageService(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        storageService = new LocalFileStorageService(properties, new WebinarMetrics(meterRegistry));
     }
 
     @Test
@@ -95,4 +104,66 @@ class LocalFileStorageServiceTest {
         assertThat(exception.getMessage()).contains("Failed to delete file");
     }
 
+    @Test
+    void store_shouldDeduplicateIdenticalContent_whenContentAddressed() throws IOException {
+        StorageProperties properties = new StorageProperties();
+        properties.setBaseDir(baseDir);
+        properties.setContentAddressed(true);
+        LocalFileStorageService casService = new LocalFileStorageService(properties, new WebinarMetrics(meterRegistry));
+
+        String first = casService.store(new MockMultipartFile("file", "banner.png", "image/png", "same-bytes".getBytes()));
+        String second = casService.store(new MockMultipartFile("file", "copy.PNG", "image/png", "same-bytes".getBytes()));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first).matches("[0-9a-f]{64}\\.png");
+        assertThat(meterRegistry.counter("webinar.storage.deduplicated").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("webinar.storage.store").tag("mode", "content-addressed").timer().count()).isEqualTo(2);
+        try (var files = Files.list(baseDir.resolve("webinars"))) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void delete_shouldKeepSharedFileUntilLastReferenceReleased() {
+        StorageProperties properties = new StorageProperties();
+        properties.setBaseDir(baseDir);
+        properties.setContentAddressed(true);
+        LocalFileStorageService casService = new LocalFileStorageService(properties, new WebinarMetrics(meterRegistry));
+
+        String filename = casService.store(new MockMultipartFile("file", "a.png", "image/png", "shared".getBytes()));
+        casService.store(new MockMultipartFile("file", "b.png", "image/png", "shared".getBytes()));
+        Path stored = baseDir.resolve("webinars").resolve(filename);
+
+        casService.delete(filename);
+        assertThat(Files.exists(stored)).isTrue();
+
+        casService.delete(filename);
+        assertThat(Files.exists(stored)).isFalse();
+    }
+
+    @Test
+    void store_shouldCountEveryReference_whenInstancesShareStorageConcurrently() throws Exception {
+        StorageProperties properties = new StorageProperties();
+        properties.setBaseDir(baseDir);
+        properties.setContentAddressed(true);
+        List<LocalFileStorageService> replicas = List.of(
+                new LocalFileStorageService(properties, new WebinarMetrics(meterRegistry)),
+                new LocalFileStorageService(properties, new WebinarMetrics(meterRegistry)));
+
+        List<Callable<String>> uploads = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            LocalFileStorageService replica = replicas.get(i % 2);
+            uploads.add(() -> replica.store(new MockMultipartFile("file", "c.png", "image/png", "contended".getBytes())));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        String filename;
+        try {
+            filename = executor.invokeAll(uploads).get(0).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        Path refs = baseDir.resolve("webinars").resolve(".refs").resolve(filename);
+        assertThat(Files.readString(refs).trim()).isEqualTo("40");
+    }
 }
@@ -0,0 +1,97 @@
+package uz.consortgroup.webinar_service.service.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uz.consortgroup.webinar_service.config.properties.StorageProperties;
+import uz.consortgroup.webinar_service.exception.ResourceNotFoundException;
+import uz.consortgroup.webinar_service.metrics.WebinarMetrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalPreviewDeliveryServiceTest {
+
+    private static final String FILENAME = "preview.png";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private LocalPreviewDeliveryService deliveryService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path baseDir = Files.createTempDirectory("webinar-preview-test");
+        Path dir = Files.createDirectories(baseDir.resolve("webinars"));
+        Files.write(dir.resolve(FILENAME), CONTENT);
+
+        StorageProperties properties = new StorageProperties();
+        properties.setBaseDir(baseDir);
+        deliveryService = new LocalPreviewDeliveryService(new LocalFileStorageService(properties, new WebinarMetrics(new SimpleMeterRegistry())));
+    }
+
+    @Test
+    void serve_shouldReturnWholeFileWithCachingHeaders() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        deliveryService.serve(FILENAME, new MockHttpServletRequest("GET", "/"), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).containsExactly(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    void serve_shouldReturn304_whenEtagMatches() throws IOException {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        deliveryService.serve(FILENAME, new MockHttpServletRequest("GET", "/"), first);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        deliveryService.serve(FILENAME, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void serve_shouldReturnPartialContent_forRangeRequest() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        deliveryService.serve(FILENAME, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void serve_shouldReturn416_whenRangeNotSatisfiable() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        deliveryService.serve(FILENAME, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void serve_shouldThrow_whenPathEscapesStorageDir() {
+        assertThrows(ResourceNotFoundException.class, () ->
+                deliveryService.serve("../secret.png", new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,81 @@
+package uz.consortgroup.webinar_service.service.user;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uz.consortgroup.core.api.v1.dto.user.request.UserBulkSearchRequest;
+import uz.consortgroup.core.api.v1.dto.user.request.UserSearchRequest;
+import uz.consortgroup.core.api.v1.dto.user.response.UserBulkSearchResponse;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+import uz.consortgroup.webinar_service.client.UserClient;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUserSearchTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Test
+    void search_shouldSplitIntoChunksAndMergeInInputOrder() {
+        when(userClient.searchUsersBulk(any())).thenAnswer(inv -> echo(inv.getArgument(0)));
+        List<String> identifiers = identifiers(7);
+
+        ChunkedUserSearch.Result result = new ChunkedUserSearch(userClient, 3, 2).search(identifiers);
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.users()).extracting(UserSearchResponse::getEmail).containsExactlyElementsOf(identifiers);
+        verify(userClient, times(3)).searchUsersBulk(any());
+    }
+
+    @Test
+    void search_shouldReportFailedChunksAndKeepTheRest() {
+        when(userClient.searchUsersBulk(any())).thenAnswer(inv -> {
+            UserBulkSearchRequest request = inv.getArgument(0);
+            if (request.getQueries().getFirst().getQuery().equals("u3@x.uz")) {
+                throw new IllegalStateException("user service unavailable");
+            }
+            return echo(request);
+        });
+
+        ChunkedUserSearch.Result result = new ChunkedUserSearch(userClient, 3, 4).search(identifiers(7));
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.failedIdentifiers()).containsExactly("u3@x.uz", "u4@x.uz", "u5@x.uz");
+        assertThat(result.users()).hasSize(4);
+        assertThat(result.errors()).singleElement().asString().contains("chunk 2");
+    }
+
+    private static List<String> identifiers(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "u" + i + "@x.uz").toList();
+    }
+
+    private static UserBulkSearchResponse echo(UserBulkSearchRequest request) {
+        List<UserSearchResponse> users = request.getQueries().stream()
+                .map(UserSearchRequest::getQuery)
+                .map(ChunkedUserSearchTest::user)
+                .toList();
+        UserBulkSearchResponse response = mock(UserBulkSearchResponse.class);
+        lenient().when(response.getUsers()).thenReturn(users);
+        return response;
+    }
+
+    private static UserSearchResponse user(String email) {
+        UserSearchResponse user = mock(UserSearchResponse.class);
+        lenient().when(user.getUserId()).thenReturn(UUID.randomUUID());
+        lenient().when(user.getEmail()).thenReturn(email);
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package uz.consortgroup.webinar_service.service.webinar;
+
+import org.junit.jupiter.api.Test;
+import uz.consortgroup.core.api.v1.dto.user.enumeration.UserRole;
+import uz.consortgroup.core.api.v1.dto.user.response.UserSearchResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+class ParticipantMatcherTest {
+
+    @Test
+    void indexByKey_shouldCollapseNormalizedDuplicatesKeepingFirstSpelling() {
+        Map<String, String> index = ParticipantMatcher.indexByKey(
+                Arrays.asList(" A@X.uz ", "a@x.uz", "1234 5678-901234", "12345678901234", "  ", null));
+
+        assertThat(index).containsExactly(
+                Map.entry("a@x.uz", "A@X.uz"),
+                Map.entry("12345678901234", "1234 5678-901234"));
+    }
+
+    @Test
+    void classify_shouldPutEachIdentifierIntoOneBucket() {
+        UserSearchResponse mentor = user(UserRole.MENTOR);
+        UserSearchResponse guest = user(UserRole.GUEST_USER);
+        Map<String, String> index = ParticipantMatcher.indexByKey(
+                List.of("mentor@x.uz", "12345678901234", "guest@x.uz", "shared@x.uz", "missing@x.uz"));
+
+        ParticipantResolution resolution = ParticipantMatcher.classify(index,
+                Map.of("mentor@x.uz", mentor, "12345678901234", mentor, "guest@x.uz", guest),
+                Set.of("shared@x.uz"));
+
+        assertThat(resolution.resolved()).containsExactly(Map.entry(mentor.getUserId(), "mentor@x.uz"));
+        assertThat(resolution.guests()).containsExactly("guest@x.uz");
+        assertThat(resolution.ambiguous()).containsExactly("shared@x.uz");
+        assertThat(resolution.unresolved()).containsExactly("missing@x.uz");
+    }
+
+    @Test
+    void newParticipants_shouldSkipExistingUsers() {
+        UUID existing = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+
+        Map<UUID, String> result = ParticipantMatcher.newParticipants(
+                Map.of(existing, "old@x.uz", fresh, "new@x.uz"), List.of(existing));
+
+        assertThat(result).containsOnlyKeys(fresh);
+    }
+
+    private static UserSearchResponse user(UserRole role) {
+        UserSearchResponse user = mock(UserSearchResponse.class);
+        lenient().when(user.getUserId()).thenReturn(UUID.randomUUID());
+        lenient().when(user.getRole()).thenReturn(role);
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package uz.consortgroup.webinar_service.service.webinar.importing;
+
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uz.consortgroup.webinar_service.exception.InvalidImportFileException;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParticipantFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void csv_shouldReadFirstColumnAndSkipHeader() throws Exception {
+        Path file = tempDir.resolve("participants.csv");
+        Files.writeString(file, "\uFEFFidentifier;name\n\"user1@example.com\";Ann\n\n12345678901234,Bob\n", StandardCharsets.UTF_8);
+
+        assertThat(read(file, ParticipantFileReader.Format.CSV)).containsExactly("user1@example.com", "12345678901234");
+    }
+
+    @Test
+    void xlsx_shouldReadNumericPinflWithoutExponent() throws Exception {
+        Path file = tempDir.resolve("participants.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("Email / PINFL");
+            sheet.createRow(1).createCell(0).setCellValue("user1@example.com");
+            sheet.createRow(2).createCell(0).setCellValue(12345678901234d);
+            workbook.write(out);
+        }
+
+        assertThat(read(file, ParticipantFileReader.Format.XLSX)).containsExactly("user1@example.com", "12345678901234");
+    }
+
+    @Test
+    void xlsx_shouldReadFormulaResultsAndBooleanCells() throws Exception {
+        Path file = tempDir.resolve("participants.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("user1@example.com");
+            sheet.createRow(1).createCell(0).setCellFormula("\"user2@\"&\"example.com\"");
+            sheet.createRow(2).createCell(0).setCellValue(true);
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(out);
+        }
+
+        assertThat(read(file, ParticipantFileReader.Format.XLSX))
+                .containsExactly("user1@example.com", "user2@example.com", "true");
+    }
+
+    @Test
+    void xlsx_shouldPropagateSinkFailuresUnwrapped() throws Exception {
+        Path file = tempDir.resolve("participants.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            workbook.createSheet().createRow(0).createCell(0).setCellValue("user1@example.com");
+            workbook.write(out);
+        }
+
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        assertThatThrownBy(() -> ParticipantFileReader.forEachIdentifier(file, ParticipantFileReader.Format.XLSX, identifier -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    @Test
+    void xlsx_shouldRejectCorruptFile() throws Exception {
+        Path file = tempDir.resolve("participants.xlsx");
+        Files.writeString(file, "not a workbook", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> read(file, ParticipantFileReader.Format.XLSX))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    @Test
+    void detectFormat_shouldRejectUnknownExtensions() {
+        assertThat(ParticipantFileReader.detectFormat("roster.XLSX")).isEqualTo(ParticipantFileReader.Format.XLSX);
+        assertThatThrownBy(() -> ParticipantFileReader.detectFormat("roster.pdf"))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    private static List<String> read(Path file, ParticipantFileReader.Format format) throws Exception {
+        List<String> identifiers = new ArrayList<>();
+        ParticipantFileReader.forEachIdentifier(file, format, identifiers::add);
+        return identifiers;
+    }
+}